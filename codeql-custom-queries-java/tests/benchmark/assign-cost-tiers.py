@@ -0,0 +1,196 @@
+#!/usr/bin/env python3
+"""
+Assigns the cost tier tags of the queries based on the results of `run-benchmark.py`.
+
+Every query has exactly one of the tags `cost-tier/fast`, `cost-tier/standard` and
+`cost-tier/deep` in its `@tags` metadata; the suites in `queries/codeql-suites`
+select queries based on these tags. This script sets the tag of each measured query
+based on its total tuple count relative to the cheapest query, which mostly
+consists of the evaluation of the standard library which every query has to do.
+Tuple counts are used instead of wall time because they do not depend on the
+machine running the benchmark. Example, run from the repository root:
+
+    python3 codeql-custom-queries-java/tests/benchmark/run-benchmark.py --json results.json
+    python3 codeql-custom-queries-java/tests/benchmark/assign-cost-tiers.py results.json
+
+When no benchmark results are available, `--from-source` instead estimates the tier
+of every query from the features it uses, including the features used by the `lib`
+libraries it (transitively) imports:
+- deep: global data flow, path queries, control flow successor closures, dominance,
+  or the `Loops`, `ConcurrencyLib` and `CostModel` libraries
+- standard: local data flow and SSA, guards and nullness, control flow nodes,
+  supertype, subtype and override closures, regexes and Javadoc parsing
+- fast: everything else
+These estimates are only a fallback; measured tiers should replace them.
+"""
+
+import argparse
+import json
+import re
+import sys
+from pathlib import Path
+
+QUERIES_DIR = Path(__file__).resolve().parent.parent.parent / "queries"
+
+TIERS = ("fast", "standard", "deep")
+# Features used to estimate the tier with `--from-source`, see the module documentation
+DEEP_LIBRARIES = ("Loops", "ConcurrencyLib", "CostModel")
+DEEP_FEATURE_PATTERN = re.compile("|".join([
+    r"@kind path-problem",
+    r"\b(DataFlow|TaintTracking)::Global",
+    r"\bhasFlow(Path)?\(",
+    r"\bgetA(Successor|Predecessor)[+*]",
+    r"\bcontrolflow\.Dominance\b",
+    r"\b\w*[dD]ominates\(",
+]))
+STANDARD_LIBRARIES = ("JavadocLib",)
+STANDARD_FEATURE_PATTERN = re.compile("|".join([
+    r"\b(DataFlow|TaintTracking)::local",
+    r"\blocal(Expr)?(Flow|Taint)(Step)?\b",
+    r"\bSsa[A-Z]\w*\b",
+    r"\bcontrolflow\.Guards\b",
+    r"\bdataflow\.(Nullness|NullGuards)\b",
+    r"\bControlFlowNode\b",
+    r"\bgetControlFlowNode\(",
+    r"\bBasicBlock\b",
+    r"\bgetBasicBlock\(",
+    r"\bConditionNode\b",
+    r"\bgetA(True|False)?(Successor|Predecessor)\(",
+    r"\bgetA(Source)?Supertype[+*]",
+    r"\bgetASubtype[+*]",
+    r"\bget(AnAncestor|ADescendant)\(",
+    r"\bgetAnOverride[+*]",
+    r"\bhasSourceSupertypeNamed\(",
+    r"\.regexp(Match|Capture|Find|ReplaceAll)\(",
+]))
+IMPORT_PATTERN = re.compile(r"^import\s+(lib\.[\w.]+)", re.MULTILINE)
+
+TIER_TAG_PATTERN = re.compile(r"cost-tier/[a-z]+")
+METADATA_PROPERTY_PATTERN = re.compile(r" \* @(kind|id|name|description|precision|problem\.severity|security-severity) ")
+
+
+def set_cost_tier(query_file, tier):
+    """
+    Sets the cost tier tag in the metadata of the query file, adding the metadata
+    comment or `@tags` property if necessary. Returns whether the file was changed.
+    """
+    if tier not in TIERS:
+        raise ValueError(f"Unknown tier {tier}")
+    tag = "cost-tier/" + tier
+    text = query_file.read_text(encoding="utf-8")
+
+    # Query metadata has to be in a QLDoc comment at the start of the file
+    if text.startswith("/*") and not text.startswith("/**"):
+        text = "/**" + text[2:]
+    if not text.startswith("/**"):
+        text = "/**\n */\n\n" + text
+    header_end = text.index("*/")
+    header, rest = text[:header_end], text[header_end:]
+
+    tags_match = re.search(r"^ \* @tags(.*)$", header, re.MULTILINE)
+    if tags_match:
+        tags = [t for t in tags_match.group(1).split() if not TIER_TAG_PATTERN.fullmatch(t)]
+        tags.append(tag)
+        header = header[:tags_match.start()] + " * @tags " + " ".join(tags) + header[tags_match.end():]
+    else:
+        lines = header.split("\n")
+        metadata_lines = [i for i, line in enumerate(lines) if METADATA_PROPERTY_PATTERN.match(line)]
+        if metadata_lines:
+            lines.insert(metadata_lines[-1] + 1, " * @tags " + tag)
+        else:
+            # Separate the metadata from the description, unless there is no description
+            if len(lines) > 2 or lines[0].strip() != "/**":
+                lines.insert(len(lines) - 1, " *")
+            lines.insert(len(lines) - 1, " * @tags " + tag)
+        header = "\n".join(lines)
+
+    new_text = header + rest
+    if new_text != query_file.read_text(encoding="utf-8"):
+        query_file.write_text(new_text, encoding="utf-8")
+        return True
+    return False
+
+
+def resolve_lib_import(importing_file, module):
+    relative_path = Path(*module.split(".")).with_suffix(".qll")
+    # Imports are resolved relative to the importing file first, then to the pack root
+    for base_dir in (importing_file.parent, QUERIES_DIR):
+        candidate = base_dir / relative_path
+        if candidate.is_file():
+            return candidate.resolve()
+    return None
+
+
+def get_used_files(query_file):
+    """
+    Returns the query file and all `lib` library files it transitively imports.
+    """
+    used_files = set()
+    pending = [query_file.resolve()]
+    while pending:
+        file = pending.pop()
+        if file in used_files:
+            continue
+        used_files.add(file)
+        for module in IMPORT_PATTERN.findall(file.read_text(encoding="utf-8")):
+            library = resolve_lib_import(file, module)
+            if library is not None:
+                pending.append(library)
+    return used_files
+
+
+def estimate_cost_tier(query_file):
+    used_files = get_used_files(query_file)
+    library_names = {file.stem for file in used_files if file.suffix == ".qll"}
+    texts = [file.read_text(encoding="utf-8") for file in used_files]
+
+    if library_names.intersection(DEEP_LIBRARIES) or any(DEEP_FEATURE_PATTERN.search(text) for text in texts):
+        return "deep"
+    if library_names.intersection(STANDARD_LIBRARIES) or any(STANDARD_FEATURE_PATTERN.search(text) for text in texts):
+        return "standard"
+    return "fast"
+
+
+def assign_from_source():
+    for query_file in sorted(QUERIES_DIR.rglob("*.ql")):
+        tier = estimate_cost_tier(query_file)
+        if set_cost_tier(query_file, tier):
+            print(f"{query_file.relative_to(QUERIES_DIR)}: {tier}")
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Assigns the cost tier tags of the queries based on benchmark results")
+    parser.add_argument("results", nargs="?", help="JSON results file written by run-benchmark.py --json")
+    parser.add_argument("--from-source", action="store_true", help="estimate the tiers from the features the queries use instead of from benchmark results")
+    parser.add_argument("--standard-factor", type=float, default=3.0, help="minimum tuple count relative to the cheapest query for the standard tier")
+    parser.add_argument("--deep-factor", type=float, default=20.0, help="minimum tuple count relative to the cheapest query for the deep tier")
+    args = parser.parse_args()
+
+    if args.from_source:
+        if args.results:
+            parser.error("--from-source cannot be combined with benchmark results")
+        assign_from_source()
+        return
+    if not args.results:
+        parser.error("either benchmark results or --from-source is required")
+
+    results = [r for r in json.loads(Path(args.results).read_text(encoding="utf-8")) if r["status"] == "ok"]
+    if not results:
+        sys.exit("No successful results")
+    baseline = max(min(r["totalTupleCount"] for r in results), 1)
+
+    for result in results:
+        factor = result["totalTupleCount"] / baseline
+        if factor >= args.deep_factor:
+            tier = "deep"
+        elif factor >= args.standard_factor:
+            tier = "standard"
+        else:
+            tier = "fast"
+
+        if set_cost_tier(QUERIES_DIR / result["query"], tier):
+            print(f"{result['query']}: {tier} ({factor:.1f}x)")
+
+
+if __name__ == "__main__":
+    main()
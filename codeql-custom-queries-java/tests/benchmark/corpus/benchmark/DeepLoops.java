@@ -0,0 +1,2539 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Methods with deeply nested loops, early exits and buffer handling.
+ */
+public class DeepLoops {
+    public long nested0(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("0")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested1(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("1")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested2(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int m = 0; m < data.length; m++) {
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("2")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested3(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        int m = 0;
+                        while (m < limit) {
+                            m++;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            for (int[] row5 : data) {
+                                int n = row5.length;
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("3")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested4(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("4")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested5(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("5")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested6(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        int m = 0;
+                        while (m < limit) {
+                            m++;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("6")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested7(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int[] row4 : data) {
+                            int m = row4.length;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            for (int n = 0; n < data.length; n++) {
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("7")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested8(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("8")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested9(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("9")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested10(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int[] row4 : data) {
+                            int m = row4.length;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("10")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested11(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int m = 0; m < data.length; m++) {
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            int n = 0;
+                            while (n < limit) {
+                                n++;
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("11")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested12(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("12")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested13(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("13")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested14(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int m = 0; m < data.length; m++) {
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("14")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested15(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        int m = 0;
+                        while (m < limit) {
+                            m++;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            for (int[] row5 : data) {
+                                int n = row5.length;
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("15")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested16(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("16")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested17(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("17")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested18(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        int m = 0;
+                        while (m < limit) {
+                            m++;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("18")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested19(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int[] row4 : data) {
+                            int m = row4.length;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            for (int n = 0; n < data.length; n++) {
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("19")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested20(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("20")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested21(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("21")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested22(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int[] row4 : data) {
+                            int m = row4.length;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("22")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested23(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int m = 0; m < data.length; m++) {
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            int n = 0;
+                            while (n < limit) {
+                                n++;
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("23")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested24(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("24")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested25(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("25")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested26(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int m = 0; m < data.length; m++) {
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("26")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested27(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        int m = 0;
+                        while (m < limit) {
+                            m++;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            for (int[] row5 : data) {
+                                int n = row5.length;
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("27")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested28(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("28")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested29(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("29")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested30(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        int m = 0;
+                        while (m < limit) {
+                            m++;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("30")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested31(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int[] row4 : data) {
+                            int m = row4.length;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            for (int n = 0; n < data.length; n++) {
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("31")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested32(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("32")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested33(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("33")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested34(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int[] row4 : data) {
+                            int m = row4.length;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("34")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested35(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int m = 0; m < data.length; m++) {
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            int n = 0;
+                            while (n < limit) {
+                                n++;
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("35")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested36(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    total += i + j + k;
+                    List<String> names = new ArrayList<>();
+                    names.add(String.valueOf(total));
+                    if (names.contains("36")) {
+                        total--;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested37(int[][] data, int limit) {
+        long total = 0;
+        int i = 0;
+        while (i < limit) {
+            i++;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int[] row1 : data) {
+                int j = row1.length;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int k = 0; k < data.length; k++) {
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    int l = 0;
+                    while (l < limit) {
+                        l++;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        total += i + j + k + l;
+                        List<String> names = new ArrayList<>();
+                        names.add(String.valueOf(total));
+                        if (names.contains("37")) {
+                            total--;
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested38(int[][] data, int limit) {
+        long total = 0;
+        for (int[] row0 : data) {
+            int i = row0.length;
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            for (int j = 0; j < data.length; j++) {
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                int k = 0;
+                while (k < limit) {
+                    k++;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int[] row3 : data) {
+                        int l = row3.length;
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        for (int m = 0; m < data.length; m++) {
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            total += i + j + k + l + m;
+                            List<String> names = new ArrayList<>();
+                            names.add(String.valueOf(total));
+                            if (names.contains("38")) {
+                                total--;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long nested39(int[][] data, int limit) {
+        long total = 0;
+        for (int i = 0; i < data.length; i++) {
+            if (total > limit * 2L) {
+                break;
+            }
+            if ((total & 1) == 0) {
+                continue;
+            }
+            int j = 0;
+            while (j < limit) {
+                j++;
+                if (total > limit * 3L) {
+                    break;
+                }
+                if ((total & 2) == 0) {
+                    continue;
+                }
+                for (int[] row2 : data) {
+                    int k = row2.length;
+                    if (total > limit * 4L) {
+                        break;
+                    }
+                    if ((total & 3) == 0) {
+                        continue;
+                    }
+                    for (int l = 0; l < data.length; l++) {
+                        if (total > limit * 5L) {
+                            break;
+                        }
+                        if ((total & 4) == 0) {
+                            continue;
+                        }
+                        int m = 0;
+                        while (m < limit) {
+                            m++;
+                            if (total > limit * 6L) {
+                                break;
+                            }
+                            if ((total & 5) == 0) {
+                                continue;
+                            }
+                            for (int[] row5 : data) {
+                                int n = row5.length;
+                                if (total > limit * 7L) {
+                                    break;
+                                }
+                                if ((total & 6) == 0) {
+                                    continue;
+                                }
+                                total += i + j + k + l + m + n;
+                                List<String> names = new ArrayList<>();
+                                names.add(String.valueOf(total));
+                                if (names.contains("39")) {
+                                    total--;
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    public long copy0(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[1024];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join0(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+0") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy1(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[2048];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join1(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+1") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy2(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[3072];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join2(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+2") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy3(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[4096];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join3(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+3") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy4(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[5120];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join4(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+4") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy5(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[6144];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join5(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+5") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy6(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[7168];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join6(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+6") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy7(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[8192];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join7(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+7") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy8(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[9216];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join8(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+8") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy9(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[10240];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join9(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+9") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy10(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[11264];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join10(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+10") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy11(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[12288];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join11(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+11") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy12(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[13312];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join12(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+12") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy13(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[14336];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join13(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+13") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long copy14(InputStream in, OutputStream out) throws IOException {
+        long copied = 0;
+        while (true) {
+            byte[] buffer = new byte[15360];
+            int read = in.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                out.write(buffer[i]);
+            }
+            copied += read;
+        }
+        return copied;
+    }
+
+    public String join14(List<String> values, Map<String, Integer> counts) {
+        String result = "";
+        for (String value : values) {
+            if (counts.containsKey(value) && values.indexOf(value) >= 0) {
+                result += value + counts.get(value);
+            }
+            for (String other : values) {
+                if (other.matches("[a-z]+14") && values.contains(other)) {
+                    result += other;
+                }
+            }
+        }
+        return result;
+    }
+
+}
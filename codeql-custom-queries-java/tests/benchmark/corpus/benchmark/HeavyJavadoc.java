@@ -0,0 +1,6769 @@
+package benchmark;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class with extensive Javadoc on every member, including nested inline tags,
+ * HTML and block tags.
+ *
+ * <p>The documentation is modelled after typical library APIs. See
+ * {@link java.util.Collections#sort(List)} and {@link java.util.Map} for
+ * similar documentation, and {@code <T extends Comparable<? super T>>}
+ * for generic signatures.
+ */
+public class HeavyJavadoc {
+    /** Maximum result of all operations. */
+    public static final int LIMIT = 1000;
+
+    /**
+     * Performs operation number 0 on the given {@code values}, using the
+     * {@link #operation1(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation0(values, Map.of(), 0);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation149(List, Map, int)
+     * @since 0.0
+     */
+    public int operation0(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 1 on the given {@code values}, using the
+     * {@link #operation2(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation1(values, Map.of(), 1);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation0(List, Map, int)
+     * @since 0.1
+     */
+    public int operation1(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 2 on the given {@code values}, using the
+     * {@link #operation3(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation2(values, Map.of(), 2);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation1(List, Map, int)
+     * @since 0.2
+     */
+    public int operation2(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 3 on the given {@code values}, using the
+     * {@link #operation4(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation3(values, Map.of(), 3);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation2(List, Map, int)
+     * @since 0.3
+     */
+    public int operation3(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 4 on the given {@code values}, using the
+     * {@link #operation5(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation4(values, Map.of(), 4);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation3(List, Map, int)
+     * @since 0.4
+     */
+    public int operation4(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 5 on the given {@code values}, using the
+     * {@link #operation6(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation5(values, Map.of(), 5);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation4(List, Map, int)
+     * @since 0.5
+     */
+    public int operation5(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 6 on the given {@code values}, using the
+     * {@link #operation7(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation6(values, Map.of(), 6);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation5(List, Map, int)
+     * @since 0.6
+     */
+    public int operation6(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 7 on the given {@code values}, using the
+     * {@link #operation8(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation7(values, Map.of(), 7);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation6(List, Map, int)
+     * @since 0.7
+     */
+    public int operation7(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 8 on the given {@code values}, using the
+     * {@link #operation9(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation8(values, Map.of(), 8);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation7(List, Map, int)
+     * @since 0.8
+     */
+    public int operation8(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 9 on the given {@code values}, using the
+     * {@link #operation10(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation9(values, Map.of(), 9);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation8(List, Map, int)
+     * @since 0.9
+     */
+    public int operation9(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 10 on the given {@code values}, using the
+     * {@link #operation11(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation10(values, Map.of(), 10);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation9(List, Map, int)
+     * @since 1.0
+     */
+    public int operation10(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 11 on the given {@code values}, using the
+     * {@link #operation12(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation11(values, Map.of(), 11);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation10(List, Map, int)
+     * @since 1.1
+     */
+    public int operation11(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 12 on the given {@code values}, using the
+     * {@link #operation13(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation12(values, Map.of(), 12);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation11(List, Map, int)
+     * @since 1.2
+     */
+    public int operation12(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 13 on the given {@code values}, using the
+     * {@link #operation14(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation13(values, Map.of(), 13);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation12(List, Map, int)
+     * @since 1.3
+     */
+    public int operation13(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 14 on the given {@code values}, using the
+     * {@link #operation15(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation14(values, Map.of(), 14);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation13(List, Map, int)
+     * @since 1.4
+     */
+    public int operation14(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 15 on the given {@code values}, using the
+     * {@link #operation16(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation15(values, Map.of(), 15);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation14(List, Map, int)
+     * @since 1.5
+     */
+    public int operation15(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 16 on the given {@code values}, using the
+     * {@link #operation17(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation16(values, Map.of(), 16);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation15(List, Map, int)
+     * @since 1.6
+     */
+    public int operation16(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 17 on the given {@code values}, using the
+     * {@link #operation18(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation17(values, Map.of(), 17);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation16(List, Map, int)
+     * @since 1.7
+     */
+    public int operation17(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 18 on the given {@code values}, using the
+     * {@link #operation19(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation18(values, Map.of(), 18);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation17(List, Map, int)
+     * @since 1.8
+     */
+    public int operation18(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 19 on the given {@code values}, using the
+     * {@link #operation20(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation19(values, Map.of(), 19);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation18(List, Map, int)
+     * @since 1.9
+     */
+    public int operation19(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 20 on the given {@code values}, using the
+     * {@link #operation21(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation20(values, Map.of(), 20);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation19(List, Map, int)
+     * @since 2.0
+     */
+    public int operation20(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 21 on the given {@code values}, using the
+     * {@link #operation22(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation21(values, Map.of(), 21);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation20(List, Map, int)
+     * @since 2.1
+     */
+    public int operation21(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 22 on the given {@code values}, using the
+     * {@link #operation23(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation22(values, Map.of(), 22);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation21(List, Map, int)
+     * @since 2.2
+     */
+    public int operation22(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 23 on the given {@code values}, using the
+     * {@link #operation24(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation23(values, Map.of(), 23);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation22(List, Map, int)
+     * @since 2.3
+     */
+    public int operation23(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 24 on the given {@code values}, using the
+     * {@link #operation25(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation24(values, Map.of(), 24);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation23(List, Map, int)
+     * @since 2.4
+     */
+    public int operation24(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 25 on the given {@code values}, using the
+     * {@link #operation26(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation25(values, Map.of(), 25);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation24(List, Map, int)
+     * @since 2.5
+     */
+    public int operation25(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 26 on the given {@code values}, using the
+     * {@link #operation27(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation26(values, Map.of(), 26);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation25(List, Map, int)
+     * @since 2.6
+     */
+    public int operation26(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 27 on the given {@code values}, using the
+     * {@link #operation28(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation27(values, Map.of(), 27);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation26(List, Map, int)
+     * @since 2.7
+     */
+    public int operation27(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 28 on the given {@code values}, using the
+     * {@link #operation29(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation28(values, Map.of(), 28);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation27(List, Map, int)
+     * @since 2.8
+     */
+    public int operation28(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 29 on the given {@code values}, using the
+     * {@link #operation30(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation29(values, Map.of(), 29);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation28(List, Map, int)
+     * @since 2.9
+     */
+    public int operation29(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 30 on the given {@code values}, using the
+     * {@link #operation31(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation30(values, Map.of(), 30);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation29(List, Map, int)
+     * @since 3.0
+     */
+    public int operation30(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 31 on the given {@code values}, using the
+     * {@link #operation32(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation31(values, Map.of(), 31);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation30(List, Map, int)
+     * @since 3.1
+     */
+    public int operation31(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 32 on the given {@code values}, using the
+     * {@link #operation33(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation32(values, Map.of(), 32);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation31(List, Map, int)
+     * @since 3.2
+     */
+    public int operation32(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 33 on the given {@code values}, using the
+     * {@link #operation34(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation33(values, Map.of(), 33);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation32(List, Map, int)
+     * @since 3.3
+     */
+    public int operation33(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 34 on the given {@code values}, using the
+     * {@link #operation35(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation34(values, Map.of(), 34);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation33(List, Map, int)
+     * @since 3.4
+     */
+    public int operation34(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 35 on the given {@code values}, using the
+     * {@link #operation36(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation35(values, Map.of(), 35);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation34(List, Map, int)
+     * @since 3.5
+     */
+    public int operation35(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 36 on the given {@code values}, using the
+     * {@link #operation37(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation36(values, Map.of(), 36);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation35(List, Map, int)
+     * @since 3.6
+     */
+    public int operation36(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 37 on the given {@code values}, using the
+     * {@link #operation38(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation37(values, Map.of(), 37);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation36(List, Map, int)
+     * @since 3.7
+     */
+    public int operation37(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 38 on the given {@code values}, using the
+     * {@link #operation39(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation38(values, Map.of(), 38);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation37(List, Map, int)
+     * @since 3.8
+     */
+    public int operation38(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 39 on the given {@code values}, using the
+     * {@link #operation40(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation39(values, Map.of(), 39);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation38(List, Map, int)
+     * @since 3.9
+     */
+    public int operation39(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 40 on the given {@code values}, using the
+     * {@link #operation41(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation40(values, Map.of(), 40);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation39(List, Map, int)
+     * @since 4.0
+     */
+    public int operation40(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 41 on the given {@code values}, using the
+     * {@link #operation42(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation41(values, Map.of(), 41);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation40(List, Map, int)
+     * @since 4.1
+     */
+    public int operation41(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 42 on the given {@code values}, using the
+     * {@link #operation43(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation42(values, Map.of(), 42);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation41(List, Map, int)
+     * @since 4.2
+     */
+    public int operation42(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 43 on the given {@code values}, using the
+     * {@link #operation44(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation43(values, Map.of(), 43);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation42(List, Map, int)
+     * @since 4.3
+     */
+    public int operation43(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 44 on the given {@code values}, using the
+     * {@link #operation45(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation44(values, Map.of(), 44);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation43(List, Map, int)
+     * @since 4.4
+     */
+    public int operation44(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 45 on the given {@code values}, using the
+     * {@link #operation46(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation45(values, Map.of(), 45);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation44(List, Map, int)
+     * @since 4.5
+     */
+    public int operation45(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 46 on the given {@code values}, using the
+     * {@link #operation47(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation46(values, Map.of(), 46);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation45(List, Map, int)
+     * @since 4.6
+     */
+    public int operation46(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 47 on the given {@code values}, using the
+     * {@link #operation48(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation47(values, Map.of(), 47);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation46(List, Map, int)
+     * @since 4.7
+     */
+    public int operation47(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 48 on the given {@code values}, using the
+     * {@link #operation49(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation48(values, Map.of(), 48);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation47(List, Map, int)
+     * @since 4.8
+     */
+    public int operation48(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 49 on the given {@code values}, using the
+     * {@link #operation50(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation49(values, Map.of(), 49);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation48(List, Map, int)
+     * @since 4.9
+     */
+    public int operation49(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 50 on the given {@code values}, using the
+     * {@link #operation51(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation50(values, Map.of(), 50);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation49(List, Map, int)
+     * @since 5.0
+     */
+    public int operation50(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 51 on the given {@code values}, using the
+     * {@link #operation52(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation51(values, Map.of(), 51);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation50(List, Map, int)
+     * @since 5.1
+     */
+    public int operation51(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 52 on the given {@code values}, using the
+     * {@link #operation53(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation52(values, Map.of(), 52);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation51(List, Map, int)
+     * @since 5.2
+     */
+    public int operation52(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 53 on the given {@code values}, using the
+     * {@link #operation54(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation53(values, Map.of(), 53);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation52(List, Map, int)
+     * @since 5.3
+     */
+    public int operation53(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 54 on the given {@code values}, using the
+     * {@link #operation55(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation54(values, Map.of(), 54);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation53(List, Map, int)
+     * @since 5.4
+     */
+    public int operation54(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 55 on the given {@code values}, using the
+     * {@link #operation56(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation55(values, Map.of(), 55);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation54(List, Map, int)
+     * @since 5.5
+     */
+    public int operation55(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 56 on the given {@code values}, using the
+     * {@link #operation57(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation56(values, Map.of(), 56);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation55(List, Map, int)
+     * @since 5.6
+     */
+    public int operation56(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 57 on the given {@code values}, using the
+     * {@link #operation58(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation57(values, Map.of(), 57);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation56(List, Map, int)
+     * @since 5.7
+     */
+    public int operation57(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 58 on the given {@code values}, using the
+     * {@link #operation59(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation58(values, Map.of(), 58);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation57(List, Map, int)
+     * @since 5.8
+     */
+    public int operation58(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 59 on the given {@code values}, using the
+     * {@link #operation60(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation59(values, Map.of(), 59);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation58(List, Map, int)
+     * @since 5.9
+     */
+    public int operation59(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 60 on the given {@code values}, using the
+     * {@link #operation61(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation60(values, Map.of(), 60);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation59(List, Map, int)
+     * @since 6.0
+     */
+    public int operation60(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 61 on the given {@code values}, using the
+     * {@link #operation62(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation61(values, Map.of(), 61);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation60(List, Map, int)
+     * @since 6.1
+     */
+    public int operation61(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 62 on the given {@code values}, using the
+     * {@link #operation63(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation62(values, Map.of(), 62);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation61(List, Map, int)
+     * @since 6.2
+     */
+    public int operation62(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 63 on the given {@code values}, using the
+     * {@link #operation64(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation63(values, Map.of(), 63);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation62(List, Map, int)
+     * @since 6.3
+     */
+    public int operation63(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 64 on the given {@code values}, using the
+     * {@link #operation65(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation64(values, Map.of(), 64);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation63(List, Map, int)
+     * @since 6.4
+     */
+    public int operation64(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 65 on the given {@code values}, using the
+     * {@link #operation66(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation65(values, Map.of(), 65);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation64(List, Map, int)
+     * @since 6.5
+     */
+    public int operation65(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 66 on the given {@code values}, using the
+     * {@link #operation67(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation66(values, Map.of(), 66);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation65(List, Map, int)
+     * @since 6.6
+     */
+    public int operation66(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 67 on the given {@code values}, using the
+     * {@link #operation68(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation67(values, Map.of(), 67);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation66(List, Map, int)
+     * @since 6.7
+     */
+    public int operation67(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 68 on the given {@code values}, using the
+     * {@link #operation69(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation68(values, Map.of(), 68);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation67(List, Map, int)
+     * @since 6.8
+     */
+    public int operation68(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 69 on the given {@code values}, using the
+     * {@link #operation70(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation69(values, Map.of(), 69);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation68(List, Map, int)
+     * @since 6.9
+     */
+    public int operation69(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 70 on the given {@code values}, using the
+     * {@link #operation71(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation70(values, Map.of(), 70);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation69(List, Map, int)
+     * @since 7.0
+     */
+    public int operation70(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 71 on the given {@code values}, using the
+     * {@link #operation72(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation71(values, Map.of(), 71);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation70(List, Map, int)
+     * @since 7.1
+     */
+    public int operation71(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 72 on the given {@code values}, using the
+     * {@link #operation73(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation72(values, Map.of(), 72);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation71(List, Map, int)
+     * @since 7.2
+     */
+    public int operation72(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 73 on the given {@code values}, using the
+     * {@link #operation74(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation73(values, Map.of(), 73);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation72(List, Map, int)
+     * @since 7.3
+     */
+    public int operation73(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 74 on the given {@code values}, using the
+     * {@link #operation75(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation74(values, Map.of(), 74);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation73(List, Map, int)
+     * @since 7.4
+     */
+    public int operation74(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 75 on the given {@code values}, using the
+     * {@link #operation76(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation75(values, Map.of(), 75);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation74(List, Map, int)
+     * @since 7.5
+     */
+    public int operation75(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 76 on the given {@code values}, using the
+     * {@link #operation77(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation76(values, Map.of(), 76);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation75(List, Map, int)
+     * @since 7.6
+     */
+    public int operation76(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 77 on the given {@code values}, using the
+     * {@link #operation78(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation77(values, Map.of(), 77);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation76(List, Map, int)
+     * @since 7.7
+     */
+    public int operation77(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 78 on the given {@code values}, using the
+     * {@link #operation79(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation78(values, Map.of(), 78);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation77(List, Map, int)
+     * @since 7.8
+     */
+    public int operation78(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 79 on the given {@code values}, using the
+     * {@link #operation80(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation79(values, Map.of(), 79);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation78(List, Map, int)
+     * @since 7.9
+     */
+    public int operation79(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 80 on the given {@code values}, using the
+     * {@link #operation81(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation80(values, Map.of(), 80);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation79(List, Map, int)
+     * @since 8.0
+     */
+    public int operation80(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 81 on the given {@code values}, using the
+     * {@link #operation82(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation81(values, Map.of(), 81);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation80(List, Map, int)
+     * @since 8.1
+     */
+    public int operation81(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 82 on the given {@code values}, using the
+     * {@link #operation83(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation82(values, Map.of(), 82);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation81(List, Map, int)
+     * @since 8.2
+     */
+    public int operation82(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 83 on the given {@code values}, using the
+     * {@link #operation84(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation83(values, Map.of(), 83);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation82(List, Map, int)
+     * @since 8.3
+     */
+    public int operation83(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 84 on the given {@code values}, using the
+     * {@link #operation85(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation84(values, Map.of(), 84);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation83(List, Map, int)
+     * @since 8.4
+     */
+    public int operation84(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 85 on the given {@code values}, using the
+     * {@link #operation86(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation85(values, Map.of(), 85);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation84(List, Map, int)
+     * @since 8.5
+     */
+    public int operation85(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 86 on the given {@code values}, using the
+     * {@link #operation87(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation86(values, Map.of(), 86);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation85(List, Map, int)
+     * @since 8.6
+     */
+    public int operation86(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 87 on the given {@code values}, using the
+     * {@link #operation88(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation87(values, Map.of(), 87);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation86(List, Map, int)
+     * @since 8.7
+     */
+    public int operation87(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 88 on the given {@code values}, using the
+     * {@link #operation89(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation88(values, Map.of(), 88);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation87(List, Map, int)
+     * @since 8.8
+     */
+    public int operation88(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 89 on the given {@code values}, using the
+     * {@link #operation90(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation89(values, Map.of(), 89);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation88(List, Map, int)
+     * @since 8.9
+     */
+    public int operation89(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 90 on the given {@code values}, using the
+     * {@link #operation91(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation90(values, Map.of(), 90);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation89(List, Map, int)
+     * @since 9.0
+     */
+    public int operation90(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 91 on the given {@code values}, using the
+     * {@link #operation92(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation91(values, Map.of(), 91);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation90(List, Map, int)
+     * @since 9.1
+     */
+    public int operation91(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 92 on the given {@code values}, using the
+     * {@link #operation93(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation92(values, Map.of(), 92);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation91(List, Map, int)
+     * @since 9.2
+     */
+    public int operation92(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 93 on the given {@code values}, using the
+     * {@link #operation94(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation93(values, Map.of(), 93);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation92(List, Map, int)
+     * @since 9.3
+     */
+    public int operation93(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 94 on the given {@code values}, using the
+     * {@link #operation95(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation94(values, Map.of(), 94);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation93(List, Map, int)
+     * @since 9.4
+     */
+    public int operation94(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 95 on the given {@code values}, using the
+     * {@link #operation96(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation95(values, Map.of(), 95);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation94(List, Map, int)
+     * @since 9.5
+     */
+    public int operation95(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 96 on the given {@code values}, using the
+     * {@link #operation97(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation96(values, Map.of(), 96);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation95(List, Map, int)
+     * @since 9.6
+     */
+    public int operation96(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 97 on the given {@code values}, using the
+     * {@link #operation98(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation97(values, Map.of(), 97);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation96(List, Map, int)
+     * @since 9.7
+     */
+    public int operation97(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 98 on the given {@code values}, using the
+     * {@link #operation99(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation98(values, Map.of(), 98);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation97(List, Map, int)
+     * @since 9.8
+     */
+    public int operation98(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 99 on the given {@code values}, using the
+     * {@link #operation100(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation99(values, Map.of(), 99);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation98(List, Map, int)
+     * @since 9.9
+     */
+    public int operation99(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 100 on the given {@code values}, using the
+     * {@link #operation101(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation100(values, Map.of(), 100);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation99(List, Map, int)
+     * @since 10.0
+     */
+    public int operation100(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 101 on the given {@code values}, using the
+     * {@link #operation102(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation101(values, Map.of(), 101);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation100(List, Map, int)
+     * @since 10.1
+     */
+    public int operation101(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 102 on the given {@code values}, using the
+     * {@link #operation103(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation102(values, Map.of(), 102);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation101(List, Map, int)
+     * @since 10.2
+     */
+    public int operation102(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 103 on the given {@code values}, using the
+     * {@link #operation104(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation103(values, Map.of(), 103);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation102(List, Map, int)
+     * @since 10.3
+     */
+    public int operation103(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 104 on the given {@code values}, using the
+     * {@link #operation105(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation104(values, Map.of(), 104);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation103(List, Map, int)
+     * @since 10.4
+     */
+    public int operation104(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 105 on the given {@code values}, using the
+     * {@link #operation106(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation105(values, Map.of(), 105);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation104(List, Map, int)
+     * @since 10.5
+     */
+    public int operation105(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 106 on the given {@code values}, using the
+     * {@link #operation107(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation106(values, Map.of(), 106);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation105(List, Map, int)
+     * @since 10.6
+     */
+    public int operation106(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 107 on the given {@code values}, using the
+     * {@link #operation108(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation107(values, Map.of(), 107);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation106(List, Map, int)
+     * @since 10.7
+     */
+    public int operation107(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 108 on the given {@code values}, using the
+     * {@link #operation109(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation108(values, Map.of(), 108);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation107(List, Map, int)
+     * @since 10.8
+     */
+    public int operation108(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 109 on the given {@code values}, using the
+     * {@link #operation110(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation109(values, Map.of(), 109);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation108(List, Map, int)
+     * @since 10.9
+     */
+    public int operation109(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 110 on the given {@code values}, using the
+     * {@link #operation111(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation110(values, Map.of(), 110);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation109(List, Map, int)
+     * @since 11.0
+     */
+    public int operation110(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 111 on the given {@code values}, using the
+     * {@link #operation112(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation111(values, Map.of(), 111);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation110(List, Map, int)
+     * @since 11.1
+     */
+    public int operation111(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 112 on the given {@code values}, using the
+     * {@link #operation113(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation112(values, Map.of(), 112);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation111(List, Map, int)
+     * @since 11.2
+     */
+    public int operation112(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 113 on the given {@code values}, using the
+     * {@link #operation114(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation113(values, Map.of(), 113);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation112(List, Map, int)
+     * @since 11.3
+     */
+    public int operation113(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 114 on the given {@code values}, using the
+     * {@link #operation115(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation114(values, Map.of(), 114);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation113(List, Map, int)
+     * @since 11.4
+     */
+    public int operation114(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 115 on the given {@code values}, using the
+     * {@link #operation116(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation115(values, Map.of(), 115);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation114(List, Map, int)
+     * @since 11.5
+     */
+    public int operation115(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 116 on the given {@code values}, using the
+     * {@link #operation117(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation116(values, Map.of(), 116);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation115(List, Map, int)
+     * @since 11.6
+     */
+    public int operation116(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 117 on the given {@code values}, using the
+     * {@link #operation118(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation117(values, Map.of(), 117);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation116(List, Map, int)
+     * @since 11.7
+     */
+    public int operation117(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 118 on the given {@code values}, using the
+     * {@link #operation119(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation118(values, Map.of(), 118);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation117(List, Map, int)
+     * @since 11.8
+     */
+    public int operation118(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 119 on the given {@code values}, using the
+     * {@link #operation120(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation119(values, Map.of(), 119);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation118(List, Map, int)
+     * @since 11.9
+     */
+    public int operation119(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 120 on the given {@code values}, using the
+     * {@link #operation121(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation120(values, Map.of(), 120);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation119(List, Map, int)
+     * @since 12.0
+     */
+    public int operation120(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 121 on the given {@code values}, using the
+     * {@link #operation122(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation121(values, Map.of(), 121);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation120(List, Map, int)
+     * @since 12.1
+     */
+    public int operation121(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 122 on the given {@code values}, using the
+     * {@link #operation123(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation122(values, Map.of(), 122);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation121(List, Map, int)
+     * @since 12.2
+     */
+    public int operation122(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 123 on the given {@code values}, using the
+     * {@link #operation124(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation123(values, Map.of(), 123);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation122(List, Map, int)
+     * @since 12.3
+     */
+    public int operation123(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 124 on the given {@code values}, using the
+     * {@link #operation125(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation124(values, Map.of(), 124);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation123(List, Map, int)
+     * @since 12.4
+     */
+    public int operation124(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 125 on the given {@code values}, using the
+     * {@link #operation126(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation125(values, Map.of(), 125);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation124(List, Map, int)
+     * @since 12.5
+     */
+    public int operation125(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 126 on the given {@code values}, using the
+     * {@link #operation127(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation126(values, Map.of(), 126);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation125(List, Map, int)
+     * @since 12.6
+     */
+    public int operation126(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 127 on the given {@code values}, using the
+     * {@link #operation128(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation127(values, Map.of(), 127);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation126(List, Map, int)
+     * @since 12.7
+     */
+    public int operation127(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 128 on the given {@code values}, using the
+     * {@link #operation129(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation128(values, Map.of(), 128);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation127(List, Map, int)
+     * @since 12.8
+     */
+    public int operation128(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 129 on the given {@code values}, using the
+     * {@link #operation130(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation129(values, Map.of(), 129);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation128(List, Map, int)
+     * @since 12.9
+     */
+    public int operation129(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 130 on the given {@code values}, using the
+     * {@link #operation131(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation130(values, Map.of(), 130);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation129(List, Map, int)
+     * @since 13.0
+     */
+    public int operation130(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 131 on the given {@code values}, using the
+     * {@link #operation132(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation131(values, Map.of(), 131);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation130(List, Map, int)
+     * @since 13.1
+     */
+    public int operation131(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 132 on the given {@code values}, using the
+     * {@link #operation133(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation132(values, Map.of(), 132);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation131(List, Map, int)
+     * @since 13.2
+     */
+    public int operation132(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 133 on the given {@code values}, using the
+     * {@link #operation134(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation133(values, Map.of(), 133);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation132(List, Map, int)
+     * @since 13.3
+     */
+    public int operation133(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 134 on the given {@code values}, using the
+     * {@link #operation135(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation134(values, Map.of(), 134);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation133(List, Map, int)
+     * @since 13.4
+     */
+    public int operation134(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 135 on the given {@code values}, using the
+     * {@link #operation136(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation135(values, Map.of(), 135);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation134(List, Map, int)
+     * @since 13.5
+     */
+    public int operation135(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 136 on the given {@code values}, using the
+     * {@link #operation137(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation136(values, Map.of(), 136);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation135(List, Map, int)
+     * @since 13.6
+     */
+    public int operation136(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 137 on the given {@code values}, using the
+     * {@link #operation138(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation137(values, Map.of(), 137);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation136(List, Map, int)
+     * @since 13.7
+     */
+    public int operation137(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 138 on the given {@code values}, using the
+     * {@link #operation139(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation138(values, Map.of(), 138);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation137(List, Map, int)
+     * @since 13.8
+     */
+    public int operation138(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 139 on the given {@code values}, using the
+     * {@link #operation140(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation139(values, Map.of(), 139);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation138(List, Map, int)
+     * @since 13.9
+     */
+    public int operation139(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 140 on the given {@code values}, using the
+     * {@link #operation141(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation140(values, Map.of(), 140);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation139(List, Map, int)
+     * @since 14.0
+     */
+    public int operation140(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 141 on the given {@code values}, using the
+     * {@link #operation142(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation141(values, Map.of(), 141);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation140(List, Map, int)
+     * @since 14.1
+     */
+    public int operation141(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 142 on the given {@code values}, using the
+     * {@link #operation143(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation142(values, Map.of(), 142);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation141(List, Map, int)
+     * @since 14.2
+     */
+    public int operation142(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 143 on the given {@code values}, using the
+     * {@link #operation144(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation143(values, Map.of(), 143);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation142(List, Map, int)
+     * @since 14.3
+     */
+    public int operation143(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 144 on the given {@code values}, using the
+     * {@link #operation145(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation144(values, Map.of(), 144);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation143(List, Map, int)
+     * @since 14.4
+     */
+    public int operation144(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 145 on the given {@code values}, using the
+     * {@link #operation146(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation145(values, Map.of(), 145);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation144(List, Map, int)
+     * @since 14.5
+     */
+    public int operation145(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 146 on the given {@code values}, using the
+     * {@link #operation147(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation146(values, Map.of(), 146);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation145(List, Map, int)
+     * @since 14.6
+     */
+    public int operation146(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 147 on the given {@code values}, using the
+     * {@link #operation148(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation147(values, Map.of(), 147);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation146(List, Map, int)
+     * @since 14.7
+     */
+    public int operation147(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 148 on the given {@code values}, using the
+     * {@link #operation149(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation148(values, Map.of(), 148);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation147(List, Map, int)
+     * @since 14.8
+     */
+    public int operation148(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+    /**
+     * Performs operation number 149 on the given {@code values}, using the
+     * {@link #operation0(List, Map, int) next operation} for
+     * intermediate results. The result is {@literal <= } {@value #LIMIT}
+     * unless {@code {@literal strict}} is {@code false}.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * List<String> values = List.of("a", "b");
+     * int result = operation149(values, Map.of(), 149);
+     * }</pre>
+     *
+     * <ul>
+     *   <li>Values are processed in order, see {@link List#get(int)}.</li>
+     *   <li>Missing keys in {@code mapping} are ignored; <b>null</b> values are
+     *       treated as <i>absent</i>, see {@linkplain Map#get(Object) the lookup}.</li>
+     *   <li>The {@code count} must be {@code >= 0} &amp; {@code < {@value #LIMIT}}.</li>
+     * </ul>
+     *
+     * @param values
+     *      the values to process, must not be {@code null}
+     * @param mapping
+     *      mapping from value to weight; entries of type {@code Map<String, Integer>}
+     * @param count
+     *      number of iterations, see {@link #LIMIT}
+     * @return {@return the weighted sum of the values}.
+     * @throws IllegalArgumentException
+     *      if {@code count} is negative
+     * @see #operation148(List, Map, int)
+     * @since 14.9
+     */
+    public int operation149(List<String> values, Map<String, Integer> mapping, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Negative count: " + count);
+        }
+        int sum = 0;
+        for (String value : values) {
+            Integer weight = mapping.get(value);
+            if (weight != null) {
+                sum += weight * count;
+            }
+        }
+        return Math.min(sum, LIMIT);
+    }
+
+}
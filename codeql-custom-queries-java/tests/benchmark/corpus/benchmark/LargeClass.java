@@ -0,0 +1,4227 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Large class with many fields and accessors, similar to generated data classes.
+ */
+public class LargeClass {
+    private int field0;
+    private long field1;
+    private String field2;
+    private double field3;
+    private List<String> field4;
+    private int field5;
+    private long field6;
+    private String field7;
+    private double field8;
+    private List<String> field9;
+    private int field10;
+    private long field11;
+    private String field12;
+    private double field13;
+    private List<String> field14;
+    private int field15;
+    private long field16;
+    private String field17;
+    private double field18;
+    private List<String> field19;
+    private int field20;
+    private long field21;
+    private String field22;
+    private double field23;
+    private List<String> field24;
+    private int field25;
+    private long field26;
+    private String field27;
+    private double field28;
+    private List<String> field29;
+    private int field30;
+    private long field31;
+    private String field32;
+    private double field33;
+    private List<String> field34;
+    private int field35;
+    private long field36;
+    private String field37;
+    private double field38;
+    private List<String> field39;
+    private int field40;
+    private long field41;
+    private String field42;
+    private double field43;
+    private List<String> field44;
+    private int field45;
+    private long field46;
+    private String field47;
+    private double field48;
+    private List<String> field49;
+    private int field50;
+    private long field51;
+    private String field52;
+    private double field53;
+    private List<String> field54;
+    private int field55;
+    private long field56;
+    private String field57;
+    private double field58;
+    private List<String> field59;
+    private int field60;
+    private long field61;
+    private String field62;
+    private double field63;
+    private List<String> field64;
+    private int field65;
+    private long field66;
+    private String field67;
+    private double field68;
+    private List<String> field69;
+    private int field70;
+    private long field71;
+    private String field72;
+    private double field73;
+    private List<String> field74;
+    private int field75;
+    private long field76;
+    private String field77;
+    private double field78;
+    private List<String> field79;
+    private int field80;
+    private long field81;
+    private String field82;
+    private double field83;
+    private List<String> field84;
+    private int field85;
+    private long field86;
+    private String field87;
+    private double field88;
+    private List<String> field89;
+    private int field90;
+    private long field91;
+    private String field92;
+    private double field93;
+    private List<String> field94;
+    private int field95;
+    private long field96;
+    private String field97;
+    private double field98;
+    private List<String> field99;
+    private int field100;
+    private long field101;
+    private String field102;
+    private double field103;
+    private List<String> field104;
+    private int field105;
+    private long field106;
+    private String field107;
+    private double field108;
+    private List<String> field109;
+    private int field110;
+    private long field111;
+    private String field112;
+    private double field113;
+    private List<String> field114;
+    private int field115;
+    private long field116;
+    private String field117;
+    private double field118;
+    private List<String> field119;
+    private int field120;
+    private long field121;
+    private String field122;
+    private double field123;
+    private List<String> field124;
+    private int field125;
+    private long field126;
+    private String field127;
+    private double field128;
+    private List<String> field129;
+    private int field130;
+    private long field131;
+    private String field132;
+    private double field133;
+    private List<String> field134;
+    private int field135;
+    private long field136;
+    private String field137;
+    private double field138;
+    private List<String> field139;
+    private int field140;
+    private long field141;
+    private String field142;
+    private double field143;
+    private List<String> field144;
+    private int field145;
+    private long field146;
+    private String field147;
+    private double field148;
+    private List<String> field149;
+    private int field150;
+    private long field151;
+    private String field152;
+    private double field153;
+    private List<String> field154;
+    private int field155;
+    private long field156;
+    private String field157;
+    private double field158;
+    private List<String> field159;
+    private int field160;
+    private long field161;
+    private String field162;
+    private double field163;
+    private List<String> field164;
+    private int field165;
+    private long field166;
+    private String field167;
+    private double field168;
+    private List<String> field169;
+    private int field170;
+    private long field171;
+    private String field172;
+    private double field173;
+    private List<String> field174;
+    private int field175;
+    private long field176;
+    private String field177;
+    private double field178;
+    private List<String> field179;
+    private int field180;
+    private long field181;
+    private String field182;
+    private double field183;
+    private List<String> field184;
+    private int field185;
+    private long field186;
+    private String field187;
+    private double field188;
+    private List<String> field189;
+    private int field190;
+    private long field191;
+    private String field192;
+    private double field193;
+    private List<String> field194;
+    private int field195;
+    private long field196;
+    private String field197;
+    private double field198;
+    private List<String> field199;
+    private int field200;
+    private long field201;
+    private String field202;
+    private double field203;
+    private List<String> field204;
+    private int field205;
+    private long field206;
+    private String field207;
+    private double field208;
+    private List<String> field209;
+    private int field210;
+    private long field211;
+    private String field212;
+    private double field213;
+    private List<String> field214;
+    private int field215;
+    private long field216;
+    private String field217;
+    private double field218;
+    private List<String> field219;
+    private int field220;
+    private long field221;
+    private String field222;
+    private double field223;
+    private List<String> field224;
+    private int field225;
+    private long field226;
+    private String field227;
+    private double field228;
+    private List<String> field229;
+    private int field230;
+    private long field231;
+    private String field232;
+    private double field233;
+    private List<String> field234;
+    private int field235;
+    private long field236;
+    private String field237;
+    private double field238;
+    private List<String> field239;
+    private int field240;
+    private long field241;
+    private String field242;
+    private double field243;
+    private List<String> field244;
+    private int field245;
+    private long field246;
+    private String field247;
+    private double field248;
+    private List<String> field249;
+    private int field250;
+    private long field251;
+    private String field252;
+    private double field253;
+    private List<String> field254;
+    private int field255;
+    private long field256;
+    private String field257;
+    private double field258;
+    private List<String> field259;
+    private int field260;
+    private long field261;
+    private String field262;
+    private double field263;
+    private List<String> field264;
+    private int field265;
+    private long field266;
+    private String field267;
+    private double field268;
+    private List<String> field269;
+    private int field270;
+    private long field271;
+    private String field272;
+    private double field273;
+    private List<String> field274;
+    private int field275;
+    private long field276;
+    private String field277;
+    private double field278;
+    private List<String> field279;
+    private int field280;
+    private long field281;
+    private String field282;
+    private double field283;
+    private List<String> field284;
+    private int field285;
+    private long field286;
+    private String field287;
+    private double field288;
+    private List<String> field289;
+    private int field290;
+    private long field291;
+    private String field292;
+    private double field293;
+    private List<String> field294;
+    private int field295;
+    private long field296;
+    private String field297;
+    private double field298;
+    private List<String> field299;
+
+    public int getField0() {
+        return field0;
+    }
+
+    public void setField0(int field0) {
+        this.field0 = field0;
+    }
+
+    public long getField1() {
+        return field1;
+    }
+
+    public void setField1(long field1) {
+        this.field1 = field1;
+    }
+
+    public String getField2() {
+        return field2;
+    }
+
+    public void setField2(String field2) {
+        this.field2 = field2;
+    }
+
+    public double getField3() {
+        return field3;
+    }
+
+    public void setField3(double field3) {
+        this.field3 = field3;
+    }
+
+    public List<String> getField4() {
+        return field4;
+    }
+
+    public void setField4(List<String> field4) {
+        this.field4 = field4;
+    }
+
+    public int getField5() {
+        return field5;
+    }
+
+    public void setField5(int field5) {
+        this.field5 = field5;
+    }
+
+    public long getField6() {
+        return field6;
+    }
+
+    public void setField6(long field6) {
+        this.field6 = field6;
+    }
+
+    public String getField7() {
+        return field7;
+    }
+
+    public void setField7(String field7) {
+        this.field7 = field7;
+    }
+
+    public double getField8() {
+        return field8;
+    }
+
+    public void setField8(double field8) {
+        this.field8 = field8;
+    }
+
+    public List<String> getField9() {
+        return field9;
+    }
+
+    public void setField9(List<String> field9) {
+        this.field9 = field9;
+    }
+
+    public int getField10() {
+        return field10;
+    }
+
+    public void setField10(int field10) {
+        this.field10 = field10;
+    }
+
+    public long getField11() {
+        return field11;
+    }
+
+    public void setField11(long field11) {
+        this.field11 = field11;
+    }
+
+    public String getField12() {
+        return field12;
+    }
+
+    public void setField12(String field12) {
+        this.field12 = field12;
+    }
+
+    public double getField13() {
+        return field13;
+    }
+
+    public void setField13(double field13) {
+        this.field13 = field13;
+    }
+
+    public List<String> getField14() {
+        return field14;
+    }
+
+    public void setField14(List<String> field14) {
+        this.field14 = field14;
+    }
+
+    public int getField15() {
+        return field15;
+    }
+
+    public void setField15(int field15) {
+        this.field15 = field15;
+    }
+
+    public long getField16() {
+        return field16;
+    }
+
+    public void setField16(long field16) {
+        this.field16 = field16;
+    }
+
+    public String getField17() {
+        return field17;
+    }
+
+    public void setField17(String field17) {
+        this.field17 = field17;
+    }
+
+    public double getField18() {
+        return field18;
+    }
+
+    public void setField18(double field18) {
+        this.field18 = field18;
+    }
+
+    public List<String> getField19() {
+        return field19;
+    }
+
+    public void setField19(List<String> field19) {
+        this.field19 = field19;
+    }
+
+    public int getField20() {
+        return field20;
+    }
+
+    public void setField20(int field20) {
+        this.field20 = field20;
+    }
+
+    public long getField21() {
+        return field21;
+    }
+
+    public void setField21(long field21) {
+        this.field21 = field21;
+    }
+
+    public String getField22() {
+        return field22;
+    }
+
+    public void setField22(String field22) {
+        this.field22 = field22;
+    }
+
+    public double getField23() {
+        return field23;
+    }
+
+    public void setField23(double field23) {
+        this.field23 = field23;
+    }
+
+    public List<String> getField24() {
+        return field24;
+    }
+
+    public void setField24(List<String> field24) {
+        this.field24 = field24;
+    }
+
+    public int getField25() {
+        return field25;
+    }
+
+    public void setField25(int field25) {
+        this.field25 = field25;
+    }
+
+    public long getField26() {
+        return field26;
+    }
+
+    public void setField26(long field26) {
+        this.field26 = field26;
+    }
+
+    public String getField27() {
+        return field27;
+    }
+
+    public void setField27(String field27) {
+        this.field27 = field27;
+    }
+
+    public double getField28() {
+        return field28;
+    }
+
+    public void setField28(double field28) {
+        this.field28 = field28;
+    }
+
+    public List<String> getField29() {
+        return field29;
+    }
+
+    public void setField29(List<String> field29) {
+        this.field29 = field29;
+    }
+
+    public int getField30() {
+        return field30;
+    }
+
+    public void setField30(int field30) {
+        this.field30 = field30;
+    }
+
+    public long getField31() {
+        return field31;
+    }
+
+    public void setField31(long field31) {
+        this.field31 = field31;
+    }
+
+    public String getField32() {
+        return field32;
+    }
+
+    public void setField32(String field32) {
+        this.field32 = field32;
+    }
+
+    public double getField33() {
+        return field33;
+    }
+
+    public void setField33(double field33) {
+        this.field33 = field33;
+    }
+
+    public List<String> getField34() {
+        return field34;
+    }
+
+    public void setField34(List<String> field34) {
+        this.field34 = field34;
+    }
+
+    public int getField35() {
+        return field35;
+    }
+
+    public void setField35(int field35) {
+        this.field35 = field35;
+    }
+
+    public long getField36() {
+        return field36;
+    }
+
+    public void setField36(long field36) {
+        this.field36 = field36;
+    }
+
+    public String getField37() {
+        return field37;
+    }
+
+    public void setField37(String field37) {
+        this.field37 = field37;
+    }
+
+    public double getField38() {
+        return field38;
+    }
+
+    public void setField38(double field38) {
+        this.field38 = field38;
+    }
+
+    public List<String> getField39() {
+        return field39;
+    }
+
+    public void setField39(List<String> field39) {
+        this.field39 = field39;
+    }
+
+    public int getField40() {
+        return field40;
+    }
+
+    public void setField40(int field40) {
+        this.field40 = field40;
+    }
+
+    public long getField41() {
+        return field41;
+    }
+
+    public void setField41(long field41) {
+        this.field41 = field41;
+    }
+
+    public String getField42() {
+        return field42;
+    }
+
+    public void setField42(String field42) {
+        this.field42 = field42;
+    }
+
+    public double getField43() {
+        return field43;
+    }
+
+    public void setField43(double field43) {
+        this.field43 = field43;
+    }
+
+    public List<String> getField44() {
+        return field44;
+    }
+
+    public void setField44(List<String> field44) {
+        this.field44 = field44;
+    }
+
+    public int getField45() {
+        return field45;
+    }
+
+    public void setField45(int field45) {
+        this.field45 = field45;
+    }
+
+    public long getField46() {
+        return field46;
+    }
+
+    public void setField46(long field46) {
+        this.field46 = field46;
+    }
+
+    public String getField47() {
+        return field47;
+    }
+
+    public void setField47(String field47) {
+        this.field47 = field47;
+    }
+
+    public double getField48() {
+        return field48;
+    }
+
+    public void setField48(double field48) {
+        this.field48 = field48;
+    }
+
+    public List<String> getField49() {
+        return field49;
+    }
+
+    public void setField49(List<String> field49) {
+        this.field49 = field49;
+    }
+
+    public int getField50() {
+        return field50;
+    }
+
+    public void setField50(int field50) {
+        this.field50 = field50;
+    }
+
+    public long getField51() {
+        return field51;
+    }
+
+    public void setField51(long field51) {
+        this.field51 = field51;
+    }
+
+    public String getField52() {
+        return field52;
+    }
+
+    public void setField52(String field52) {
+        this.field52 = field52;
+    }
+
+    public double getField53() {
+        return field53;
+    }
+
+    public void setField53(double field53) {
+        this.field53 = field53;
+    }
+
+    public List<String> getField54() {
+        return field54;
+    }
+
+    public void setField54(List<String> field54) {
+        this.field54 = field54;
+    }
+
+    public int getField55() {
+        return field55;
+    }
+
+    public void setField55(int field55) {
+        this.field55 = field55;
+    }
+
+    public long getField56() {
+        return field56;
+    }
+
+    public void setField56(long field56) {
+        this.field56 = field56;
+    }
+
+    public String getField57() {
+        return field57;
+    }
+
+    public void setField57(String field57) {
+        this.field57 = field57;
+    }
+
+    public double getField58() {
+        return field58;
+    }
+
+    public void setField58(double field58) {
+        this.field58 = field58;
+    }
+
+    public List<String> getField59() {
+        return field59;
+    }
+
+    public void setField59(List<String> field59) {
+        this.field59 = field59;
+    }
+
+    public int getField60() {
+        return field60;
+    }
+
+    public void setField60(int field60) {
+        this.field60 = field60;
+    }
+
+    public long getField61() {
+        return field61;
+    }
+
+    public void setField61(long field61) {
+        this.field61 = field61;
+    }
+
+    public String getField62() {
+        return field62;
+    }
+
+    public void setField62(String field62) {
+        this.field62 = field62;
+    }
+
+    public double getField63() {
+        return field63;
+    }
+
+    public void setField63(double field63) {
+        this.field63 = field63;
+    }
+
+    public List<String> getField64() {
+        return field64;
+    }
+
+    public void setField64(List<String> field64) {
+        this.field64 = field64;
+    }
+
+    public int getField65() {
+        return field65;
+    }
+
+    public void setField65(int field65) {
+        this.field65 = field65;
+    }
+
+    public long getField66() {
+        return field66;
+    }
+
+    public void setField66(long field66) {
+        this.field66 = field66;
+    }
+
+    public String getField67() {
+        return field67;
+    }
+
+    public void setField67(String field67) {
+        this.field67 = field67;
+    }
+
+    public double getField68() {
+        return field68;
+    }
+
+    public void setField68(double field68) {
+        this.field68 = field68;
+    }
+
+    public List<String> getField69() {
+        return field69;
+    }
+
+    public void setField69(List<String> field69) {
+        this.field69 = field69;
+    }
+
+    public int getField70() {
+        return field70;
+    }
+
+    public void setField70(int field70) {
+        this.field70 = field70;
+    }
+
+    public long getField71() {
+        return field71;
+    }
+
+    public void setField71(long field71) {
+        this.field71 = field71;
+    }
+
+    public String getField72() {
+        return field72;
+    }
+
+    public void setField72(String field72) {
+        this.field72 = field72;
+    }
+
+    public double getField73() {
+        return field73;
+    }
+
+    public void setField73(double field73) {
+        this.field73 = field73;
+    }
+
+    public List<String> getField74() {
+        return field74;
+    }
+
+    public void setField74(List<String> field74) {
+        this.field74 = field74;
+    }
+
+    public int getField75() {
+        return field75;
+    }
+
+    public void setField75(int field75) {
+        this.field75 = field75;
+    }
+
+    public long getField76() {
+        return field76;
+    }
+
+    public void setField76(long field76) {
+        this.field76 = field76;
+    }
+
+    public String getField77() {
+        return field77;
+    }
+
+    public void setField77(String field77) {
+        this.field77 = field77;
+    }
+
+    public double getField78() {
+        return field78;
+    }
+
+    public void setField78(double field78) {
+        this.field78 = field78;
+    }
+
+    public List<String> getField79() {
+        return field79;
+    }
+
+    public void setField79(List<String> field79) {
+        this.field79 = field79;
+    }
+
+    public int getField80() {
+        return field80;
+    }
+
+    public void setField80(int field80) {
+        this.field80 = field80;
+    }
+
+    public long getField81() {
+        return field81;
+    }
+
+    public void setField81(long field81) {
+        this.field81 = field81;
+    }
+
+    public String getField82() {
+        return field82;
+    }
+
+    public void setField82(String field82) {
+        this.field82 = field82;
+    }
+
+    public double getField83() {
+        return field83;
+    }
+
+    public void setField83(double field83) {
+        this.field83 = field83;
+    }
+
+    public List<String> getField84() {
+        return field84;
+    }
+
+    public void setField84(List<String> field84) {
+        this.field84 = field84;
+    }
+
+    public int getField85() {
+        return field85;
+    }
+
+    public void setField85(int field85) {
+        this.field85 = field85;
+    }
+
+    public long getField86() {
+        return field86;
+    }
+
+    public void setField86(long field86) {
+        this.field86 = field86;
+    }
+
+    public String getField87() {
+        return field87;
+    }
+
+    public void setField87(String field87) {
+        this.field87 = field87;
+    }
+
+    public double getField88() {
+        return field88;
+    }
+
+    public void setField88(double field88) {
+        this.field88 = field88;
+    }
+
+    public List<String> getField89() {
+        return field89;
+    }
+
+    public void setField89(List<String> field89) {
+        this.field89 = field89;
+    }
+
+    public int getField90() {
+        return field90;
+    }
+
+    public void setField90(int field90) {
+        this.field90 = field90;
+    }
+
+    public long getField91() {
+        return field91;
+    }
+
+    public void setField91(long field91) {
+        this.field91 = field91;
+    }
+
+    public String getField92() {
+        return field92;
+    }
+
+    public void setField92(String field92) {
+        this.field92 = field92;
+    }
+
+    public double getField93() {
+        return field93;
+    }
+
+    public void setField93(double field93) {
+        this.field93 = field93;
+    }
+
+    public List<String> getField94() {
+        return field94;
+    }
+
+    public void setField94(List<String> field94) {
+        this.field94 = field94;
+    }
+
+    public int getField95() {
+        return field95;
+    }
+
+    public void setField95(int field95) {
+        this.field95 = field95;
+    }
+
+    public long getField96() {
+        return field96;
+    }
+
+    public void setField96(long field96) {
+        this.field96 = field96;
+    }
+
+    public String getField97() {
+        return field97;
+    }
+
+    public void setField97(String field97) {
+        this.field97 = field97;
+    }
+
+    public double getField98() {
+        return field98;
+    }
+
+    public void setField98(double field98) {
+        this.field98 = field98;
+    }
+
+    public List<String> getField99() {
+        return field99;
+    }
+
+    public void setField99(List<String> field99) {
+        this.field99 = field99;
+    }
+
+    public int getField100() {
+        return field100;
+    }
+
+    public void setField100(int field100) {
+        this.field100 = field100;
+    }
+
+    public long getField101() {
+        return field101;
+    }
+
+    public void setField101(long field101) {
+        this.field101 = field101;
+    }
+
+    public String getField102() {
+        return field102;
+    }
+
+    public void setField102(String field102) {
+        this.field102 = field102;
+    }
+
+    public double getField103() {
+        return field103;
+    }
+
+    public void setField103(double field103) {
+        this.field103 = field103;
+    }
+
+    public List<String> getField104() {
+        return field104;
+    }
+
+    public void setField104(List<String> field104) {
+        this.field104 = field104;
+    }
+
+    public int getField105() {
+        return field105;
+    }
+
+    public void setField105(int field105) {
+        this.field105 = field105;
+    }
+
+    public long getField106() {
+        return field106;
+    }
+
+    public void setField106(long field106) {
+        this.field106 = field106;
+    }
+
+    public String getField107() {
+        return field107;
+    }
+
+    public void setField107(String field107) {
+        this.field107 = field107;
+    }
+
+    public double getField108() {
+        return field108;
+    }
+
+    public void setField108(double field108) {
+        this.field108 = field108;
+    }
+
+    public List<String> getField109() {
+        return field109;
+    }
+
+    public void setField109(List<String> field109) {
+        this.field109 = field109;
+    }
+
+    public int getField110() {
+        return field110;
+    }
+
+    public void setField110(int field110) {
+        this.field110 = field110;
+    }
+
+    public long getField111() {
+        return field111;
+    }
+
+    public void setField111(long field111) {
+        this.field111 = field111;
+    }
+
+    public String getField112() {
+        return field112;
+    }
+
+    public void setField112(String field112) {
+        this.field112 = field112;
+    }
+
+    public double getField113() {
+        return field113;
+    }
+
+    public void setField113(double field113) {
+        this.field113 = field113;
+    }
+
+    public List<String> getField114() {
+        return field114;
+    }
+
+    public void setField114(List<String> field114) {
+        this.field114 = field114;
+    }
+
+    public int getField115() {
+        return field115;
+    }
+
+    public void setField115(int field115) {
+        this.field115 = field115;
+    }
+
+    public long getField116() {
+        return field116;
+    }
+
+    public void setField116(long field116) {
+        this.field116 = field116;
+    }
+
+    public String getField117() {
+        return field117;
+    }
+
+    public void setField117(String field117) {
+        this.field117 = field117;
+    }
+
+    public double getField118() {
+        return field118;
+    }
+
+    public void setField118(double field118) {
+        this.field118 = field118;
+    }
+
+    public List<String> getField119() {
+        return field119;
+    }
+
+    public void setField119(List<String> field119) {
+        this.field119 = field119;
+    }
+
+    public int getField120() {
+        return field120;
+    }
+
+    public void setField120(int field120) {
+        this.field120 = field120;
+    }
+
+    public long getField121() {
+        return field121;
+    }
+
+    public void setField121(long field121) {
+        this.field121 = field121;
+    }
+
+    public String getField122() {
+        return field122;
+    }
+
+    public void setField122(String field122) {
+        this.field122 = field122;
+    }
+
+    public double getField123() {
+        return field123;
+    }
+
+    public void setField123(double field123) {
+        this.field123 = field123;
+    }
+
+    public List<String> getField124() {
+        return field124;
+    }
+
+    public void setField124(List<String> field124) {
+        this.field124 = field124;
+    }
+
+    public int getField125() {
+        return field125;
+    }
+
+    public void setField125(int field125) {
+        this.field125 = field125;
+    }
+
+    public long getField126() {
+        return field126;
+    }
+
+    public void setField126(long field126) {
+        this.field126 = field126;
+    }
+
+    public String getField127() {
+        return field127;
+    }
+
+    public void setField127(String field127) {
+        this.field127 = field127;
+    }
+
+    public double getField128() {
+        return field128;
+    }
+
+    public void setField128(double field128) {
+        this.field128 = field128;
+    }
+
+    public List<String> getField129() {
+        return field129;
+    }
+
+    public void setField129(List<String> field129) {
+        this.field129 = field129;
+    }
+
+    public int getField130() {
+        return field130;
+    }
+
+    public void setField130(int field130) {
+        this.field130 = field130;
+    }
+
+    public long getField131() {
+        return field131;
+    }
+
+    public void setField131(long field131) {
+        this.field131 = field131;
+    }
+
+    public String getField132() {
+        return field132;
+    }
+
+    public void setField132(String field132) {
+        this.field132 = field132;
+    }
+
+    public double getField133() {
+        return field133;
+    }
+
+    public void setField133(double field133) {
+        this.field133 = field133;
+    }
+
+    public List<String> getField134() {
+        return field134;
+    }
+
+    public void setField134(List<String> field134) {
+        this.field134 = field134;
+    }
+
+    public int getField135() {
+        return field135;
+    }
+
+    public void setField135(int field135) {
+        this.field135 = field135;
+    }
+
+    public long getField136() {
+        return field136;
+    }
+
+    public void setField136(long field136) {
+        this.field136 = field136;
+    }
+
+    public String getField137() {
+        return field137;
+    }
+
+    public void setField137(String field137) {
+        this.field137 = field137;
+    }
+
+    public double getField138() {
+        return field138;
+    }
+
+    public void setField138(double field138) {
+        this.field138 = field138;
+    }
+
+    public List<String> getField139() {
+        return field139;
+    }
+
+    public void setField139(List<String> field139) {
+        this.field139 = field139;
+    }
+
+    public int getField140() {
+        return field140;
+    }
+
+    public void setField140(int field140) {
+        this.field140 = field140;
+    }
+
+    public long getField141() {
+        return field141;
+    }
+
+    public void setField141(long field141) {
+        this.field141 = field141;
+    }
+
+    public String getField142() {
+        return field142;
+    }
+
+    public void setField142(String field142) {
+        this.field142 = field142;
+    }
+
+    public double getField143() {
+        return field143;
+    }
+
+    public void setField143(double field143) {
+        this.field143 = field143;
+    }
+
+    public List<String> getField144() {
+        return field144;
+    }
+
+    public void setField144(List<String> field144) {
+        this.field144 = field144;
+    }
+
+    public int getField145() {
+        return field145;
+    }
+
+    public void setField145(int field145) {
+        this.field145 = field145;
+    }
+
+    public long getField146() {
+        return field146;
+    }
+
+    public void setField146(long field146) {
+        this.field146 = field146;
+    }
+
+    public String getField147() {
+        return field147;
+    }
+
+    public void setField147(String field147) {
+        this.field147 = field147;
+    }
+
+    public double getField148() {
+        return field148;
+    }
+
+    public void setField148(double field148) {
+        this.field148 = field148;
+    }
+
+    public List<String> getField149() {
+        return field149;
+    }
+
+    public void setField149(List<String> field149) {
+        this.field149 = field149;
+    }
+
+    public int getField150() {
+        return field150;
+    }
+
+    public void setField150(int field150) {
+        this.field150 = field150;
+    }
+
+    public long getField151() {
+        return field151;
+    }
+
+    public void setField151(long field151) {
+        this.field151 = field151;
+    }
+
+    public String getField152() {
+        return field152;
+    }
+
+    public void setField152(String field152) {
+        this.field152 = field152;
+    }
+
+    public double getField153() {
+        return field153;
+    }
+
+    public void setField153(double field153) {
+        this.field153 = field153;
+    }
+
+    public List<String> getField154() {
+        return field154;
+    }
+
+    public void setField154(List<String> field154) {
+        this.field154 = field154;
+    }
+
+    public int getField155() {
+        return field155;
+    }
+
+    public void setField155(int field155) {
+        this.field155 = field155;
+    }
+
+    public long getField156() {
+        return field156;
+    }
+
+    public void setField156(long field156) {
+        this.field156 = field156;
+    }
+
+    public String getField157() {
+        return field157;
+    }
+
+    public void setField157(String field157) {
+        this.field157 = field157;
+    }
+
+    public double getField158() {
+        return field158;
+    }
+
+    public void setField158(double field158) {
+        this.field158 = field158;
+    }
+
+    public List<String> getField159() {
+        return field159;
+    }
+
+    public void setField159(List<String> field159) {
+        this.field159 = field159;
+    }
+
+    public int getField160() {
+        return field160;
+    }
+
+    public void setField160(int field160) {
+        this.field160 = field160;
+    }
+
+    public long getField161() {
+        return field161;
+    }
+
+    public void setField161(long field161) {
+        this.field161 = field161;
+    }
+
+    public String getField162() {
+        return field162;
+    }
+
+    public void setField162(String field162) {
+        this.field162 = field162;
+    }
+
+    public double getField163() {
+        return field163;
+    }
+
+    public void setField163(double field163) {
+        this.field163 = field163;
+    }
+
+    public List<String> getField164() {
+        return field164;
+    }
+
+    public void setField164(List<String> field164) {
+        this.field164 = field164;
+    }
+
+    public int getField165() {
+        return field165;
+    }
+
+    public void setField165(int field165) {
+        this.field165 = field165;
+    }
+
+    public long getField166() {
+        return field166;
+    }
+
+    public void setField166(long field166) {
+        this.field166 = field166;
+    }
+
+    public String getField167() {
+        return field167;
+    }
+
+    public void setField167(String field167) {
+        this.field167 = field167;
+    }
+
+    public double getField168() {
+        return field168;
+    }
+
+    public void setField168(double field168) {
+        this.field168 = field168;
+    }
+
+    public List<String> getField169() {
+        return field169;
+    }
+
+    public void setField169(List<String> field169) {
+        this.field169 = field169;
+    }
+
+    public int getField170() {
+        return field170;
+    }
+
+    public void setField170(int field170) {
+        this.field170 = field170;
+    }
+
+    public long getField171() {
+        return field171;
+    }
+
+    public void setField171(long field171) {
+        this.field171 = field171;
+    }
+
+    public String getField172() {
+        return field172;
+    }
+
+    public void setField172(String field172) {
+        this.field172 = field172;
+    }
+
+    public double getField173() {
+        return field173;
+    }
+
+    public void setField173(double field173) {
+        this.field173 = field173;
+    }
+
+    public List<String> getField174() {
+        return field174;
+    }
+
+    public void setField174(List<String> field174) {
+        this.field174 = field174;
+    }
+
+    public int getField175() {
+        return field175;
+    }
+
+    public void setField175(int field175) {
+        this.field175 = field175;
+    }
+
+    public long getField176() {
+        return field176;
+    }
+
+    public void setField176(long field176) {
+        this.field176 = field176;
+    }
+
+    public String getField177() {
+        return field177;
+    }
+
+    public void setField177(String field177) {
+        this.field177 = field177;
+    }
+
+    public double getField178() {
+        return field178;
+    }
+
+    public void setField178(double field178) {
+        this.field178 = field178;
+    }
+
+    public List<String> getField179() {
+        return field179;
+    }
+
+    public void setField179(List<String> field179) {
+        this.field179 = field179;
+    }
+
+    public int getField180() {
+        return field180;
+    }
+
+    public void setField180(int field180) {
+        this.field180 = field180;
+    }
+
+    public long getField181() {
+        return field181;
+    }
+
+    public void setField181(long field181) {
+        this.field181 = field181;
+    }
+
+    public String getField182() {
+        return field182;
+    }
+
+    public void setField182(String field182) {
+        this.field182 = field182;
+    }
+
+    public double getField183() {
+        return field183;
+    }
+
+    public void setField183(double field183) {
+        this.field183 = field183;
+    }
+
+    public List<String> getField184() {
+        return field184;
+    }
+
+    public void setField184(List<String> field184) {
+        this.field184 = field184;
+    }
+
+    public int getField185() {
+        return field185;
+    }
+
+    public void setField185(int field185) {
+        this.field185 = field185;
+    }
+
+    public long getField186() {
+        return field186;
+    }
+
+    public void setField186(long field186) {
+        this.field186 = field186;
+    }
+
+    public String getField187() {
+        return field187;
+    }
+
+    public void setField187(String field187) {
+        this.field187 = field187;
+    }
+
+    public double getField188() {
+        return field188;
+    }
+
+    public void setField188(double field188) {
+        this.field188 = field188;
+    }
+
+    public List<String> getField189() {
+        return field189;
+    }
+
+    public void setField189(List<String> field189) {
+        this.field189 = field189;
+    }
+
+    public int getField190() {
+        return field190;
+    }
+
+    public void setField190(int field190) {
+        this.field190 = field190;
+    }
+
+    public long getField191() {
+        return field191;
+    }
+
+    public void setField191(long field191) {
+        this.field191 = field191;
+    }
+
+    public String getField192() {
+        return field192;
+    }
+
+    public void setField192(String field192) {
+        this.field192 = field192;
+    }
+
+    public double getField193() {
+        return field193;
+    }
+
+    public void setField193(double field193) {
+        this.field193 = field193;
+    }
+
+    public List<String> getField194() {
+        return field194;
+    }
+
+    public void setField194(List<String> field194) {
+        this.field194 = field194;
+    }
+
+    public int getField195() {
+        return field195;
+    }
+
+    public void setField195(int field195) {
+        this.field195 = field195;
+    }
+
+    public long getField196() {
+        return field196;
+    }
+
+    public void setField196(long field196) {
+        this.field196 = field196;
+    }
+
+    public String getField197() {
+        return field197;
+    }
+
+    public void setField197(String field197) {
+        this.field197 = field197;
+    }
+
+    public double getField198() {
+        return field198;
+    }
+
+    public void setField198(double field198) {
+        this.field198 = field198;
+    }
+
+    public List<String> getField199() {
+        return field199;
+    }
+
+    public void setField199(List<String> field199) {
+        this.field199 = field199;
+    }
+
+    public int getField200() {
+        return field200;
+    }
+
+    public void setField200(int field200) {
+        this.field200 = field200;
+    }
+
+    public long getField201() {
+        return field201;
+    }
+
+    public void setField201(long field201) {
+        this.field201 = field201;
+    }
+
+    public String getField202() {
+        return field202;
+    }
+
+    public void setField202(String field202) {
+        this.field202 = field202;
+    }
+
+    public double getField203() {
+        return field203;
+    }
+
+    public void setField203(double field203) {
+        this.field203 = field203;
+    }
+
+    public List<String> getField204() {
+        return field204;
+    }
+
+    public void setField204(List<String> field204) {
+        this.field204 = field204;
+    }
+
+    public int getField205() {
+        return field205;
+    }
+
+    public void setField205(int field205) {
+        this.field205 = field205;
+    }
+
+    public long getField206() {
+        return field206;
+    }
+
+    public void setField206(long field206) {
+        this.field206 = field206;
+    }
+
+    public String getField207() {
+        return field207;
+    }
+
+    public void setField207(String field207) {
+        this.field207 = field207;
+    }
+
+    public double getField208() {
+        return field208;
+    }
+
+    public void setField208(double field208) {
+        this.field208 = field208;
+    }
+
+    public List<String> getField209() {
+        return field209;
+    }
+
+    public void setField209(List<String> field209) {
+        this.field209 = field209;
+    }
+
+    public int getField210() {
+        return field210;
+    }
+
+    public void setField210(int field210) {
+        this.field210 = field210;
+    }
+
+    public long getField211() {
+        return field211;
+    }
+
+    public void setField211(long field211) {
+        this.field211 = field211;
+    }
+
+    public String getField212() {
+        return field212;
+    }
+
+    public void setField212(String field212) {
+        this.field212 = field212;
+    }
+
+    public double getField213() {
+        return field213;
+    }
+
+    public void setField213(double field213) {
+        this.field213 = field213;
+    }
+
+    public List<String> getField214() {
+        return field214;
+    }
+
+    public void setField214(List<String> field214) {
+        this.field214 = field214;
+    }
+
+    public int getField215() {
+        return field215;
+    }
+
+    public void setField215(int field215) {
+        this.field215 = field215;
+    }
+
+    public long getField216() {
+        return field216;
+    }
+
+    public void setField216(long field216) {
+        this.field216 = field216;
+    }
+
+    public String getField217() {
+        return field217;
+    }
+
+    public void setField217(String field217) {
+        this.field217 = field217;
+    }
+
+    public double getField218() {
+        return field218;
+    }
+
+    public void setField218(double field218) {
+        this.field218 = field218;
+    }
+
+    public List<String> getField219() {
+        return field219;
+    }
+
+    public void setField219(List<String> field219) {
+        this.field219 = field219;
+    }
+
+    public int getField220() {
+        return field220;
+    }
+
+    public void setField220(int field220) {
+        this.field220 = field220;
+    }
+
+    public long getField221() {
+        return field221;
+    }
+
+    public void setField221(long field221) {
+        this.field221 = field221;
+    }
+
+    public String getField222() {
+        return field222;
+    }
+
+    public void setField222(String field222) {
+        this.field222 = field222;
+    }
+
+    public double getField223() {
+        return field223;
+    }
+
+    public void setField223(double field223) {
+        this.field223 = field223;
+    }
+
+    public List<String> getField224() {
+        return field224;
+    }
+
+    public void setField224(List<String> field224) {
+        this.field224 = field224;
+    }
+
+    public int getField225() {
+        return field225;
+    }
+
+    public void setField225(int field225) {
+        this.field225 = field225;
+    }
+
+    public long getField226() {
+        return field226;
+    }
+
+    public void setField226(long field226) {
+        this.field226 = field226;
+    }
+
+    public String getField227() {
+        return field227;
+    }
+
+    public void setField227(String field227) {
+        this.field227 = field227;
+    }
+
+    public double getField228() {
+        return field228;
+    }
+
+    public void setField228(double field228) {
+        this.field228 = field228;
+    }
+
+    public List<String> getField229() {
+        return field229;
+    }
+
+    public void setField229(List<String> field229) {
+        this.field229 = field229;
+    }
+
+    public int getField230() {
+        return field230;
+    }
+
+    public void setField230(int field230) {
+        this.field230 = field230;
+    }
+
+    public long getField231() {
+        return field231;
+    }
+
+    public void setField231(long field231) {
+        this.field231 = field231;
+    }
+
+    public String getField232() {
+        return field232;
+    }
+
+    public void setField232(String field232) {
+        this.field232 = field232;
+    }
+
+    public double getField233() {
+        return field233;
+    }
+
+    public void setField233(double field233) {
+        this.field233 = field233;
+    }
+
+    public List<String> getField234() {
+        return field234;
+    }
+
+    public void setField234(List<String> field234) {
+        this.field234 = field234;
+    }
+
+    public int getField235() {
+        return field235;
+    }
+
+    public void setField235(int field235) {
+        this.field235 = field235;
+    }
+
+    public long getField236() {
+        return field236;
+    }
+
+    public void setField236(long field236) {
+        this.field236 = field236;
+    }
+
+    public String getField237() {
+        return field237;
+    }
+
+    public void setField237(String field237) {
+        this.field237 = field237;
+    }
+
+    public double getField238() {
+        return field238;
+    }
+
+    public void setField238(double field238) {
+        this.field238 = field238;
+    }
+
+    public List<String> getField239() {
+        return field239;
+    }
+
+    public void setField239(List<String> field239) {
+        this.field239 = field239;
+    }
+
+    public int getField240() {
+        return field240;
+    }
+
+    public void setField240(int field240) {
+        this.field240 = field240;
+    }
+
+    public long getField241() {
+        return field241;
+    }
+
+    public void setField241(long field241) {
+        this.field241 = field241;
+    }
+
+    public String getField242() {
+        return field242;
+    }
+
+    public void setField242(String field242) {
+        this.field242 = field242;
+    }
+
+    public double getField243() {
+        return field243;
+    }
+
+    public void setField243(double field243) {
+        this.field243 = field243;
+    }
+
+    public List<String> getField244() {
+        return field244;
+    }
+
+    public void setField244(List<String> field244) {
+        this.field244 = field244;
+    }
+
+    public int getField245() {
+        return field245;
+    }
+
+    public void setField245(int field245) {
+        this.field245 = field245;
+    }
+
+    public long getField246() {
+        return field246;
+    }
+
+    public void setField246(long field246) {
+        this.field246 = field246;
+    }
+
+    public String getField247() {
+        return field247;
+    }
+
+    public void setField247(String field247) {
+        this.field247 = field247;
+    }
+
+    public double getField248() {
+        return field248;
+    }
+
+    public void setField248(double field248) {
+        this.field248 = field248;
+    }
+
+    public List<String> getField249() {
+        return field249;
+    }
+
+    public void setField249(List<String> field249) {
+        this.field249 = field249;
+    }
+
+    public int getField250() {
+        return field250;
+    }
+
+    public void setField250(int field250) {
+        this.field250 = field250;
+    }
+
+    public long getField251() {
+        return field251;
+    }
+
+    public void setField251(long field251) {
+        this.field251 = field251;
+    }
+
+    public String getField252() {
+        return field252;
+    }
+
+    public void setField252(String field252) {
+        this.field252 = field252;
+    }
+
+    public double getField253() {
+        return field253;
+    }
+
+    public void setField253(double field253) {
+        this.field253 = field253;
+    }
+
+    public List<String> getField254() {
+        return field254;
+    }
+
+    public void setField254(List<String> field254) {
+        this.field254 = field254;
+    }
+
+    public int getField255() {
+        return field255;
+    }
+
+    public void setField255(int field255) {
+        this.field255 = field255;
+    }
+
+    public long getField256() {
+        return field256;
+    }
+
+    public void setField256(long field256) {
+        this.field256 = field256;
+    }
+
+    public String getField257() {
+        return field257;
+    }
+
+    public void setField257(String field257) {
+        this.field257 = field257;
+    }
+
+    public double getField258() {
+        return field258;
+    }
+
+    public void setField258(double field258) {
+        this.field258 = field258;
+    }
+
+    public List<String> getField259() {
+        return field259;
+    }
+
+    public void setField259(List<String> field259) {
+        this.field259 = field259;
+    }
+
+    public int getField260() {
+        return field260;
+    }
+
+    public void setField260(int field260) {
+        this.field260 = field260;
+    }
+
+    public long getField261() {
+        return field261;
+    }
+
+    public void setField261(long field261) {
+        this.field261 = field261;
+    }
+
+    public String getField262() {
+        return field262;
+    }
+
+    public void setField262(String field262) {
+        this.field262 = field262;
+    }
+
+    public double getField263() {
+        return field263;
+    }
+
+    public void setField263(double field263) {
+        this.field263 = field263;
+    }
+
+    public List<String> getField264() {
+        return field264;
+    }
+
+    public void setField264(List<String> field264) {
+        this.field264 = field264;
+    }
+
+    public int getField265() {
+        return field265;
+    }
+
+    public void setField265(int field265) {
+        this.field265 = field265;
+    }
+
+    public long getField266() {
+        return field266;
+    }
+
+    public void setField266(long field266) {
+        this.field266 = field266;
+    }
+
+    public String getField267() {
+        return field267;
+    }
+
+    public void setField267(String field267) {
+        this.field267 = field267;
+    }
+
+    public double getField268() {
+        return field268;
+    }
+
+    public void setField268(double field268) {
+        this.field268 = field268;
+    }
+
+    public List<String> getField269() {
+        return field269;
+    }
+
+    public void setField269(List<String> field269) {
+        this.field269 = field269;
+    }
+
+    public int getField270() {
+        return field270;
+    }
+
+    public void setField270(int field270) {
+        this.field270 = field270;
+    }
+
+    public long getField271() {
+        return field271;
+    }
+
+    public void setField271(long field271) {
+        this.field271 = field271;
+    }
+
+    public String getField272() {
+        return field272;
+    }
+
+    public void setField272(String field272) {
+        this.field272 = field272;
+    }
+
+    public double getField273() {
+        return field273;
+    }
+
+    public void setField273(double field273) {
+        this.field273 = field273;
+    }
+
+    public List<String> getField274() {
+        return field274;
+    }
+
+    public void setField274(List<String> field274) {
+        this.field274 = field274;
+    }
+
+    public int getField275() {
+        return field275;
+    }
+
+    public void setField275(int field275) {
+        this.field275 = field275;
+    }
+
+    public long getField276() {
+        return field276;
+    }
+
+    public void setField276(long field276) {
+        this.field276 = field276;
+    }
+
+    public String getField277() {
+        return field277;
+    }
+
+    public void setField277(String field277) {
+        this.field277 = field277;
+    }
+
+    public double getField278() {
+        return field278;
+    }
+
+    public void setField278(double field278) {
+        this.field278 = field278;
+    }
+
+    public List<String> getField279() {
+        return field279;
+    }
+
+    public void setField279(List<String> field279) {
+        this.field279 = field279;
+    }
+
+    public int getField280() {
+        return field280;
+    }
+
+    public void setField280(int field280) {
+        this.field280 = field280;
+    }
+
+    public long getField281() {
+        return field281;
+    }
+
+    public void setField281(long field281) {
+        this.field281 = field281;
+    }
+
+    public String getField282() {
+        return field282;
+    }
+
+    public void setField282(String field282) {
+        this.field282 = field282;
+    }
+
+    public double getField283() {
+        return field283;
+    }
+
+    public void setField283(double field283) {
+        this.field283 = field283;
+    }
+
+    public List<String> getField284() {
+        return field284;
+    }
+
+    public void setField284(List<String> field284) {
+        this.field284 = field284;
+    }
+
+    public int getField285() {
+        return field285;
+    }
+
+    public void setField285(int field285) {
+        this.field285 = field285;
+    }
+
+    public long getField286() {
+        return field286;
+    }
+
+    public void setField286(long field286) {
+        this.field286 = field286;
+    }
+
+    public String getField287() {
+        return field287;
+    }
+
+    public void setField287(String field287) {
+        this.field287 = field287;
+    }
+
+    public double getField288() {
+        return field288;
+    }
+
+    public void setField288(double field288) {
+        this.field288 = field288;
+    }
+
+    public List<String> getField289() {
+        return field289;
+    }
+
+    public void setField289(List<String> field289) {
+        this.field289 = field289;
+    }
+
+    public int getField290() {
+        return field290;
+    }
+
+    public void setField290(int field290) {
+        this.field290 = field290;
+    }
+
+    public long getField291() {
+        return field291;
+    }
+
+    public void setField291(long field291) {
+        this.field291 = field291;
+    }
+
+    public String getField292() {
+        return field292;
+    }
+
+    public void setField292(String field292) {
+        this.field292 = field292;
+    }
+
+    public double getField293() {
+        return field293;
+    }
+
+    public void setField293(double field293) {
+        this.field293 = field293;
+    }
+
+    public List<String> getField294() {
+        return field294;
+    }
+
+    public void setField294(List<String> field294) {
+        this.field294 = field294;
+    }
+
+    public int getField295() {
+        return field295;
+    }
+
+    public void setField295(int field295) {
+        this.field295 = field295;
+    }
+
+    public long getField296() {
+        return field296;
+    }
+
+    public void setField296(long field296) {
+        this.field296 = field296;
+    }
+
+    public String getField297() {
+        return field297;
+    }
+
+    public void setField297(String field297) {
+        this.field297 = field297;
+    }
+
+    public double getField298() {
+        return field298;
+    }
+
+    public void setField298(double field298) {
+        this.field298 = field298;
+    }
+
+    public List<String> getField299() {
+        return field299;
+    }
+
+    public void setField299(List<String> field299) {
+        this.field299 = field299;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("field0", field0);
+        map.put("field1", field1);
+        map.put("field2", field2);
+        map.put("field3", field3);
+        map.put("field4", field4);
+        map.put("field5", field5);
+        map.put("field6", field6);
+        map.put("field7", field7);
+        map.put("field8", field8);
+        map.put("field9", field9);
+        map.put("field10", field10);
+        map.put("field11", field11);
+        map.put("field12", field12);
+        map.put("field13", field13);
+        map.put("field14", field14);
+        map.put("field15", field15);
+        map.put("field16", field16);
+        map.put("field17", field17);
+        map.put("field18", field18);
+        map.put("field19", field19);
+        map.put("field20", field20);
+        map.put("field21", field21);
+        map.put("field22", field22);
+        map.put("field23", field23);
+        map.put("field24", field24);
+        map.put("field25", field25);
+        map.put("field26", field26);
+        map.put("field27", field27);
+        map.put("field28", field28);
+        map.put("field29", field29);
+        map.put("field30", field30);
+        map.put("field31", field31);
+        map.put("field32", field32);
+        map.put("field33", field33);
+        map.put("field34", field34);
+        map.put("field35", field35);
+        map.put("field36", field36);
+        map.put("field37", field37);
+        map.put("field38", field38);
+        map.put("field39", field39);
+        map.put("field40", field40);
+        map.put("field41", field41);
+        map.put("field42", field42);
+        map.put("field43", field43);
+        map.put("field44", field44);
+        map.put("field45", field45);
+        map.put("field46", field46);
+        map.put("field47", field47);
+        map.put("field48", field48);
+        map.put("field49", field49);
+        map.put("field50", field50);
+        map.put("field51", field51);
+        map.put("field52", field52);
+        map.put("field53", field53);
+        map.put("field54", field54);
+        map.put("field55", field55);
+        map.put("field56", field56);
+        map.put("field57", field57);
+        map.put("field58", field58);
+        map.put("field59", field59);
+        map.put("field60", field60);
+        map.put("field61", field61);
+        map.put("field62", field62);
+        map.put("field63", field63);
+        map.put("field64", field64);
+        map.put("field65", field65);
+        map.put("field66", field66);
+        map.put("field67", field67);
+        map.put("field68", field68);
+        map.put("field69", field69);
+        map.put("field70", field70);
+        map.put("field71", field71);
+        map.put("field72", field72);
+        map.put("field73", field73);
+        map.put("field74", field74);
+        map.put("field75", field75);
+        map.put("field76", field76);
+        map.put("field77", field77);
+        map.put("field78", field78);
+        map.put("field79", field79);
+        map.put("field80", field80);
+        map.put("field81", field81);
+        map.put("field82", field82);
+        map.put("field83", field83);
+        map.put("field84", field84);
+        map.put("field85", field85);
+        map.put("field86", field86);
+        map.put("field87", field87);
+        map.put("field88", field88);
+        map.put("field89", field89);
+        map.put("field90", field90);
+        map.put("field91", field91);
+        map.put("field92", field92);
+        map.put("field93", field93);
+        map.put("field94", field94);
+        map.put("field95", field95);
+        map.put("field96", field96);
+        map.put("field97", field97);
+        map.put("field98", field98);
+        map.put("field99", field99);
+        map.put("field100", field100);
+        map.put("field101", field101);
+        map.put("field102", field102);
+        map.put("field103", field103);
+        map.put("field104", field104);
+        map.put("field105", field105);
+        map.put("field106", field106);
+        map.put("field107", field107);
+        map.put("field108", field108);
+        map.put("field109", field109);
+        map.put("field110", field110);
+        map.put("field111", field111);
+        map.put("field112", field112);
+        map.put("field113", field113);
+        map.put("field114", field114);
+        map.put("field115", field115);
+        map.put("field116", field116);
+        map.put("field117", field117);
+        map.put("field118", field118);
+        map.put("field119", field119);
+        map.put("field120", field120);
+        map.put("field121", field121);
+        map.put("field122", field122);
+        map.put("field123", field123);
+        map.put("field124", field124);
+        map.put("field125", field125);
+        map.put("field126", field126);
+        map.put("field127", field127);
+        map.put("field128", field128);
+        map.put("field129", field129);
+        map.put("field130", field130);
+        map.put("field131", field131);
+        map.put("field132", field132);
+        map.put("field133", field133);
+        map.put("field134", field134);
+        map.put("field135", field135);
+        map.put("field136", field136);
+        map.put("field137", field137);
+        map.put("field138", field138);
+        map.put("field139", field139);
+        map.put("field140", field140);
+        map.put("field141", field141);
+        map.put("field142", field142);
+        map.put("field143", field143);
+        map.put("field144", field144);
+        map.put("field145", field145);
+        map.put("field146", field146);
+        map.put("field147", field147);
+        map.put("field148", field148);
+        map.put("field149", field149);
+        map.put("field150", field150);
+        map.put("field151", field151);
+        map.put("field152", field152);
+        map.put("field153", field153);
+        map.put("field154", field154);
+        map.put("field155", field155);
+        map.put("field156", field156);
+        map.put("field157", field157);
+        map.put("field158", field158);
+        map.put("field159", field159);
+        map.put("field160", field160);
+        map.put("field161", field161);
+        map.put("field162", field162);
+        map.put("field163", field163);
+        map.put("field164", field164);
+        map.put("field165", field165);
+        map.put("field166", field166);
+        map.put("field167", field167);
+        map.put("field168", field168);
+        map.put("field169", field169);
+        map.put("field170", field170);
+        map.put("field171", field171);
+        map.put("field172", field172);
+        map.put("field173", field173);
+        map.put("field174", field174);
+        map.put("field175", field175);
+        map.put("field176", field176);
+        map.put("field177", field177);
+        map.put("field178", field178);
+        map.put("field179", field179);
+        map.put("field180", field180);
+        map.put("field181", field181);
+        map.put("field182", field182);
+        map.put("field183", field183);
+        map.put("field184", field184);
+        map.put("field185", field185);
+        map.put("field186", field186);
+        map.put("field187", field187);
+        map.put("field188", field188);
+        map.put("field189", field189);
+        map.put("field190", field190);
+        map.put("field191", field191);
+        map.put("field192", field192);
+        map.put("field193", field193);
+        map.put("field194", field194);
+        map.put("field195", field195);
+        map.put("field196", field196);
+        map.put("field197", field197);
+        map.put("field198", field198);
+        map.put("field199", field199);
+        map.put("field200", field200);
+        map.put("field201", field201);
+        map.put("field202", field202);
+        map.put("field203", field203);
+        map.put("field204", field204);
+        map.put("field205", field205);
+        map.put("field206", field206);
+        map.put("field207", field207);
+        map.put("field208", field208);
+        map.put("field209", field209);
+        map.put("field210", field210);
+        map.put("field211", field211);
+        map.put("field212", field212);
+        map.put("field213", field213);
+        map.put("field214", field214);
+        map.put("field215", field215);
+        map.put("field216", field216);
+        map.put("field217", field217);
+        map.put("field218", field218);
+        map.put("field219", field219);
+        map.put("field220", field220);
+        map.put("field221", field221);
+        map.put("field222", field222);
+        map.put("field223", field223);
+        map.put("field224", field224);
+        map.put("field225", field225);
+        map.put("field226", field226);
+        map.put("field227", field227);
+        map.put("field228", field228);
+        map.put("field229", field229);
+        map.put("field230", field230);
+        map.put("field231", field231);
+        map.put("field232", field232);
+        map.put("field233", field233);
+        map.put("field234", field234);
+        map.put("field235", field235);
+        map.put("field236", field236);
+        map.put("field237", field237);
+        map.put("field238", field238);
+        map.put("field239", field239);
+        map.put("field240", field240);
+        map.put("field241", field241);
+        map.put("field242", field242);
+        map.put("field243", field243);
+        map.put("field244", field244);
+        map.put("field245", field245);
+        map.put("field246", field246);
+        map.put("field247", field247);
+        map.put("field248", field248);
+        map.put("field249", field249);
+        map.put("field250", field250);
+        map.put("field251", field251);
+        map.put("field252", field252);
+        map.put("field253", field253);
+        map.put("field254", field254);
+        map.put("field255", field255);
+        map.put("field256", field256);
+        map.put("field257", field257);
+        map.put("field258", field258);
+        map.put("field259", field259);
+        map.put("field260", field260);
+        map.put("field261", field261);
+        map.put("field262", field262);
+        map.put("field263", field263);
+        map.put("field264", field264);
+        map.put("field265", field265);
+        map.put("field266", field266);
+        map.put("field267", field267);
+        map.put("field268", field268);
+        map.put("field269", field269);
+        map.put("field270", field270);
+        map.put("field271", field271);
+        map.put("field272", field272);
+        map.put("field273", field273);
+        map.put("field274", field274);
+        map.put("field275", field275);
+        map.put("field276", field276);
+        map.put("field277", field277);
+        map.put("field278", field278);
+        map.put("field279", field279);
+        map.put("field280", field280);
+        map.put("field281", field281);
+        map.put("field282", field282);
+        map.put("field283", field283);
+        map.put("field284", field284);
+        map.put("field285", field285);
+        map.put("field286", field286);
+        map.put("field287", field287);
+        map.put("field288", field288);
+        map.put("field289", field289);
+        map.put("field290", field290);
+        map.put("field291", field291);
+        map.put("field292", field292);
+        map.put("field293", field293);
+        map.put("field294", field294);
+        map.put("field295", field295);
+        map.put("field296", field296);
+        map.put("field297", field297);
+        map.put("field298", field298);
+        map.put("field299", field299);
+        return map;
+    }
+
+    public int computeHash() {
+        int hash = 17;
+        hash = 31 * hash + field0;
+        hash = 31 * hash + Long.hashCode(field1);
+        hash = 31 * hash + (field2 == null ? 0 : field2.hashCode());
+        hash = 31 * hash + Double.hashCode(field3);
+        hash = 31 * hash + (field4 == null ? 0 : field4.hashCode());
+        hash = 31 * hash + field5;
+        hash = 31 * hash + Long.hashCode(field6);
+        hash = 31 * hash + (field7 == null ? 0 : field7.hashCode());
+        hash = 31 * hash + Double.hashCode(field8);
+        hash = 31 * hash + (field9 == null ? 0 : field9.hashCode());
+        hash = 31 * hash + field10;
+        hash = 31 * hash + Long.hashCode(field11);
+        hash = 31 * hash + (field12 == null ? 0 : field12.hashCode());
+        hash = 31 * hash + Double.hashCode(field13);
+        hash = 31 * hash + (field14 == null ? 0 : field14.hashCode());
+        hash = 31 * hash + field15;
+        hash = 31 * hash + Long.hashCode(field16);
+        hash = 31 * hash + (field17 == null ? 0 : field17.hashCode());
+        hash = 31 * hash + Double.hashCode(field18);
+        hash = 31 * hash + (field19 == null ? 0 : field19.hashCode());
+        hash = 31 * hash + field20;
+        hash = 31 * hash + Long.hashCode(field21);
+        hash = 31 * hash + (field22 == null ? 0 : field22.hashCode());
+        hash = 31 * hash + Double.hashCode(field23);
+        hash = 31 * hash + (field24 == null ? 0 : field24.hashCode());
+        hash = 31 * hash + field25;
+        hash = 31 * hash + Long.hashCode(field26);
+        hash = 31 * hash + (field27 == null ? 0 : field27.hashCode());
+        hash = 31 * hash + Double.hashCode(field28);
+        hash = 31 * hash + (field29 == null ? 0 : field29.hashCode());
+        hash = 31 * hash + field30;
+        hash = 31 * hash + Long.hashCode(field31);
+        hash = 31 * hash + (field32 == null ? 0 : field32.hashCode());
+        hash = 31 * hash + Double.hashCode(field33);
+        hash = 31 * hash + (field34 == null ? 0 : field34.hashCode());
+        hash = 31 * hash + field35;
+        hash = 31 * hash + Long.hashCode(field36);
+        hash = 31 * hash + (field37 == null ? 0 : field37.hashCode());
+        hash = 31 * hash + Double.hashCode(field38);
+        hash = 31 * hash + (field39 == null ? 0 : field39.hashCode());
+        hash = 31 * hash + field40;
+        hash = 31 * hash + Long.hashCode(field41);
+        hash = 31 * hash + (field42 == null ? 0 : field42.hashCode());
+        hash = 31 * hash + Double.hashCode(field43);
+        hash = 31 * hash + (field44 == null ? 0 : field44.hashCode());
+        hash = 31 * hash + field45;
+        hash = 31 * hash + Long.hashCode(field46);
+        hash = 31 * hash + (field47 == null ? 0 : field47.hashCode());
+        hash = 31 * hash + Double.hashCode(field48);
+        hash = 31 * hash + (field49 == null ? 0 : field49.hashCode());
+        hash = 31 * hash + field50;
+        hash = 31 * hash + Long.hashCode(field51);
+        hash = 31 * hash + (field52 == null ? 0 : field52.hashCode());
+        hash = 31 * hash + Double.hashCode(field53);
+        hash = 31 * hash + (field54 == null ? 0 : field54.hashCode());
+        hash = 31 * hash + field55;
+        hash = 31 * hash + Long.hashCode(field56);
+        hash = 31 * hash + (field57 == null ? 0 : field57.hashCode());
+        hash = 31 * hash + Double.hashCode(field58);
+        hash = 31 * hash + (field59 == null ? 0 : field59.hashCode());
+        hash = 31 * hash + field60;
+        hash = 31 * hash + Long.hashCode(field61);
+        hash = 31 * hash + (field62 == null ? 0 : field62.hashCode());
+        hash = 31 * hash + Double.hashCode(field63);
+        hash = 31 * hash + (field64 == null ? 0 : field64.hashCode());
+        hash = 31 * hash + field65;
+        hash = 31 * hash + Long.hashCode(field66);
+        hash = 31 * hash + (field67 == null ? 0 : field67.hashCode());
+        hash = 31 * hash + Double.hashCode(field68);
+        hash = 31 * hash + (field69 == null ? 0 : field69.hashCode());
+        hash = 31 * hash + field70;
+        hash = 31 * hash + Long.hashCode(field71);
+        hash = 31 * hash + (field72 == null ? 0 : field72.hashCode());
+        hash = 31 * hash + Double.hashCode(field73);
+        hash = 31 * hash + (field74 == null ? 0 : field74.hashCode());
+        hash = 31 * hash + field75;
+        hash = 31 * hash + Long.hashCode(field76);
+        hash = 31 * hash + (field77 == null ? 0 : field77.hashCode());
+        hash = 31 * hash + Double.hashCode(field78);
+        hash = 31 * hash + (field79 == null ? 0 : field79.hashCode());
+        hash = 31 * hash + field80;
+        hash = 31 * hash + Long.hashCode(field81);
+        hash = 31 * hash + (field82 == null ? 0 : field82.hashCode());
+        hash = 31 * hash + Double.hashCode(field83);
+        hash = 31 * hash + (field84 == null ? 0 : field84.hashCode());
+        hash = 31 * hash + field85;
+        hash = 31 * hash + Long.hashCode(field86);
+        hash = 31 * hash + (field87 == null ? 0 : field87.hashCode());
+        hash = 31 * hash + Double.hashCode(field88);
+        hash = 31 * hash + (field89 == null ? 0 : field89.hashCode());
+        hash = 31 * hash + field90;
+        hash = 31 * hash + Long.hashCode(field91);
+        hash = 31 * hash + (field92 == null ? 0 : field92.hashCode());
+        hash = 31 * hash + Double.hashCode(field93);
+        hash = 31 * hash + (field94 == null ? 0 : field94.hashCode());
+        hash = 31 * hash + field95;
+        hash = 31 * hash + Long.hashCode(field96);
+        hash = 31 * hash + (field97 == null ? 0 : field97.hashCode());
+        hash = 31 * hash + Double.hashCode(field98);
+        hash = 31 * hash + (field99 == null ? 0 : field99.hashCode());
+        hash = 31 * hash + field100;
+        hash = 31 * hash + Long.hashCode(field101);
+        hash = 31 * hash + (field102 == null ? 0 : field102.hashCode());
+        hash = 31 * hash + Double.hashCode(field103);
+        hash = 31 * hash + (field104 == null ? 0 : field104.hashCode());
+        hash = 31 * hash + field105;
+        hash = 31 * hash + Long.hashCode(field106);
+        hash = 31 * hash + (field107 == null ? 0 : field107.hashCode());
+        hash = 31 * hash + Double.hashCode(field108);
+        hash = 31 * hash + (field109 == null ? 0 : field109.hashCode());
+        hash = 31 * hash + field110;
+        hash = 31 * hash + Long.hashCode(field111);
+        hash = 31 * hash + (field112 == null ? 0 : field112.hashCode());
+        hash = 31 * hash + Double.hashCode(field113);
+        hash = 31 * hash + (field114 == null ? 0 : field114.hashCode());
+        hash = 31 * hash + field115;
+        hash = 31 * hash + Long.hashCode(field116);
+        hash = 31 * hash + (field117 == null ? 0 : field117.hashCode());
+        hash = 31 * hash + Double.hashCode(field118);
+        hash = 31 * hash + (field119 == null ? 0 : field119.hashCode());
+        hash = 31 * hash + field120;
+        hash = 31 * hash + Long.hashCode(field121);
+        hash = 31 * hash + (field122 == null ? 0 : field122.hashCode());
+        hash = 31 * hash + Double.hashCode(field123);
+        hash = 31 * hash + (field124 == null ? 0 : field124.hashCode());
+        hash = 31 * hash + field125;
+        hash = 31 * hash + Long.hashCode(field126);
+        hash = 31 * hash + (field127 == null ? 0 : field127.hashCode());
+        hash = 31 * hash + Double.hashCode(field128);
+        hash = 31 * hash + (field129 == null ? 0 : field129.hashCode());
+        hash = 31 * hash + field130;
+        hash = 31 * hash + Long.hashCode(field131);
+        hash = 31 * hash + (field132 == null ? 0 : field132.hashCode());
+        hash = 31 * hash + Double.hashCode(field133);
+        hash = 31 * hash + (field134 == null ? 0 : field134.hashCode());
+        hash = 31 * hash + field135;
+        hash = 31 * hash + Long.hashCode(field136);
+        hash = 31 * hash + (field137 == null ? 0 : field137.hashCode());
+        hash = 31 * hash + Double.hashCode(field138);
+        hash = 31 * hash + (field139 == null ? 0 : field139.hashCode());
+        hash = 31 * hash + field140;
+        hash = 31 * hash + Long.hashCode(field141);
+        hash = 31 * hash + (field142 == null ? 0 : field142.hashCode());
+        hash = 31 * hash + Double.hashCode(field143);
+        hash = 31 * hash + (field144 == null ? 0 : field144.hashCode());
+        hash = 31 * hash + field145;
+        hash = 31 * hash + Long.hashCode(field146);
+        hash = 31 * hash + (field147 == null ? 0 : field147.hashCode());
+        hash = 31 * hash + Double.hashCode(field148);
+        hash = 31 * hash + (field149 == null ? 0 : field149.hashCode());
+        hash = 31 * hash + field150;
+        hash = 31 * hash + Long.hashCode(field151);
+        hash = 31 * hash + (field152 == null ? 0 : field152.hashCode());
+        hash = 31 * hash + Double.hashCode(field153);
+        hash = 31 * hash + (field154 == null ? 0 : field154.hashCode());
+        hash = 31 * hash + field155;
+        hash = 31 * hash + Long.hashCode(field156);
+        hash = 31 * hash + (field157 == null ? 0 : field157.hashCode());
+        hash = 31 * hash + Double.hashCode(field158);
+        hash = 31 * hash + (field159 == null ? 0 : field159.hashCode());
+        hash = 31 * hash + field160;
+        hash = 31 * hash + Long.hashCode(field161);
+        hash = 31 * hash + (field162 == null ? 0 : field162.hashCode());
+        hash = 31 * hash + Double.hashCode(field163);
+        hash = 31 * hash + (field164 == null ? 0 : field164.hashCode());
+        hash = 31 * hash + field165;
+        hash = 31 * hash + Long.hashCode(field166);
+        hash = 31 * hash + (field167 == null ? 0 : field167.hashCode());
+        hash = 31 * hash + Double.hashCode(field168);
+        hash = 31 * hash + (field169 == null ? 0 : field169.hashCode());
+        hash = 31 * hash + field170;
+        hash = 31 * hash + Long.hashCode(field171);
+        hash = 31 * hash + (field172 == null ? 0 : field172.hashCode());
+        hash = 31 * hash + Double.hashCode(field173);
+        hash = 31 * hash + (field174 == null ? 0 : field174.hashCode());
+        hash = 31 * hash + field175;
+        hash = 31 * hash + Long.hashCode(field176);
+        hash = 31 * hash + (field177 == null ? 0 : field177.hashCode());
+        hash = 31 * hash + Double.hashCode(field178);
+        hash = 31 * hash + (field179 == null ? 0 : field179.hashCode());
+        hash = 31 * hash + field180;
+        hash = 31 * hash + Long.hashCode(field181);
+        hash = 31 * hash + (field182 == null ? 0 : field182.hashCode());
+        hash = 31 * hash + Double.hashCode(field183);
+        hash = 31 * hash + (field184 == null ? 0 : field184.hashCode());
+        hash = 31 * hash + field185;
+        hash = 31 * hash + Long.hashCode(field186);
+        hash = 31 * hash + (field187 == null ? 0 : field187.hashCode());
+        hash = 31 * hash + Double.hashCode(field188);
+        hash = 31 * hash + (field189 == null ? 0 : field189.hashCode());
+        hash = 31 * hash + field190;
+        hash = 31 * hash + Long.hashCode(field191);
+        hash = 31 * hash + (field192 == null ? 0 : field192.hashCode());
+        hash = 31 * hash + Double.hashCode(field193);
+        hash = 31 * hash + (field194 == null ? 0 : field194.hashCode());
+        hash = 31 * hash + field195;
+        hash = 31 * hash + Long.hashCode(field196);
+        hash = 31 * hash + (field197 == null ? 0 : field197.hashCode());
+        hash = 31 * hash + Double.hashCode(field198);
+        hash = 31 * hash + (field199 == null ? 0 : field199.hashCode());
+        hash = 31 * hash + field200;
+        hash = 31 * hash + Long.hashCode(field201);
+        hash = 31 * hash + (field202 == null ? 0 : field202.hashCode());
+        hash = 31 * hash + Double.hashCode(field203);
+        hash = 31 * hash + (field204 == null ? 0 : field204.hashCode());
+        hash = 31 * hash + field205;
+        hash = 31 * hash + Long.hashCode(field206);
+        hash = 31 * hash + (field207 == null ? 0 : field207.hashCode());
+        hash = 31 * hash + Double.hashCode(field208);
+        hash = 31 * hash + (field209 == null ? 0 : field209.hashCode());
+        hash = 31 * hash + field210;
+        hash = 31 * hash + Long.hashCode(field211);
+        hash = 31 * hash + (field212 == null ? 0 : field212.hashCode());
+        hash = 31 * hash + Double.hashCode(field213);
+        hash = 31 * hash + (field214 == null ? 0 : field214.hashCode());
+        hash = 31 * hash + field215;
+        hash = 31 * hash + Long.hashCode(field216);
+        hash = 31 * hash + (field217 == null ? 0 : field217.hashCode());
+        hash = 31 * hash + Double.hashCode(field218);
+        hash = 31 * hash + (field219 == null ? 0 : field219.hashCode());
+        hash = 31 * hash + field220;
+        hash = 31 * hash + Long.hashCode(field221);
+        hash = 31 * hash + (field222 == null ? 0 : field222.hashCode());
+        hash = 31 * hash + Double.hashCode(field223);
+        hash = 31 * hash + (field224 == null ? 0 : field224.hashCode());
+        hash = 31 * hash + field225;
+        hash = 31 * hash + Long.hashCode(field226);
+        hash = 31 * hash + (field227 == null ? 0 : field227.hashCode());
+        hash = 31 * hash + Double.hashCode(field228);
+        hash = 31 * hash + (field229 == null ? 0 : field229.hashCode());
+        hash = 31 * hash + field230;
+        hash = 31 * hash + Long.hashCode(field231);
+        hash = 31 * hash + (field232 == null ? 0 : field232.hashCode());
+        hash = 31 * hash + Double.hashCode(field233);
+        hash = 31 * hash + (field234 == null ? 0 : field234.hashCode());
+        hash = 31 * hash + field235;
+        hash = 31 * hash + Long.hashCode(field236);
+        hash = 31 * hash + (field237 == null ? 0 : field237.hashCode());
+        hash = 31 * hash + Double.hashCode(field238);
+        hash = 31 * hash + (field239 == null ? 0 : field239.hashCode());
+        hash = 31 * hash + field240;
+        hash = 31 * hash + Long.hashCode(field241);
+        hash = 31 * hash + (field242 == null ? 0 : field242.hashCode());
+        hash = 31 * hash + Double.hashCode(field243);
+        hash = 31 * hash + (field244 == null ? 0 : field244.hashCode());
+        hash = 31 * hash + field245;
+        hash = 31 * hash + Long.hashCode(field246);
+        hash = 31 * hash + (field247 == null ? 0 : field247.hashCode());
+        hash = 31 * hash + Double.hashCode(field248);
+        hash = 31 * hash + (field249 == null ? 0 : field249.hashCode());
+        hash = 31 * hash + field250;
+        hash = 31 * hash + Long.hashCode(field251);
+        hash = 31 * hash + (field252 == null ? 0 : field252.hashCode());
+        hash = 31 * hash + Double.hashCode(field253);
+        hash = 31 * hash + (field254 == null ? 0 : field254.hashCode());
+        hash = 31 * hash + field255;
+        hash = 31 * hash + Long.hashCode(field256);
+        hash = 31 * hash + (field257 == null ? 0 : field257.hashCode());
+        hash = 31 * hash + Double.hashCode(field258);
+        hash = 31 * hash + (field259 == null ? 0 : field259.hashCode());
+        hash = 31 * hash + field260;
+        hash = 31 * hash + Long.hashCode(field261);
+        hash = 31 * hash + (field262 == null ? 0 : field262.hashCode());
+        hash = 31 * hash + Double.hashCode(field263);
+        hash = 31 * hash + (field264 == null ? 0 : field264.hashCode());
+        hash = 31 * hash + field265;
+        hash = 31 * hash + Long.hashCode(field266);
+        hash = 31 * hash + (field267 == null ? 0 : field267.hashCode());
+        hash = 31 * hash + Double.hashCode(field268);
+        hash = 31 * hash + (field269 == null ? 0 : field269.hashCode());
+        hash = 31 * hash + field270;
+        hash = 31 * hash + Long.hashCode(field271);
+        hash = 31 * hash + (field272 == null ? 0 : field272.hashCode());
+        hash = 31 * hash + Double.hashCode(field273);
+        hash = 31 * hash + (field274 == null ? 0 : field274.hashCode());
+        hash = 31 * hash + field275;
+        hash = 31 * hash + Long.hashCode(field276);
+        hash = 31 * hash + (field277 == null ? 0 : field277.hashCode());
+        hash = 31 * hash + Double.hashCode(field278);
+        hash = 31 * hash + (field279 == null ? 0 : field279.hashCode());
+        hash = 31 * hash + field280;
+        hash = 31 * hash + Long.hashCode(field281);
+        hash = 31 * hash + (field282 == null ? 0 : field282.hashCode());
+        hash = 31 * hash + Double.hashCode(field283);
+        hash = 31 * hash + (field284 == null ? 0 : field284.hashCode());
+        hash = 31 * hash + field285;
+        hash = 31 * hash + Long.hashCode(field286);
+        hash = 31 * hash + (field287 == null ? 0 : field287.hashCode());
+        hash = 31 * hash + Double.hashCode(field288);
+        hash = 31 * hash + (field289 == null ? 0 : field289.hashCode());
+        hash = 31 * hash + field290;
+        hash = 31 * hash + Long.hashCode(field291);
+        hash = 31 * hash + (field292 == null ? 0 : field292.hashCode());
+        hash = 31 * hash + Double.hashCode(field293);
+        hash = 31 * hash + (field294 == null ? 0 : field294.hashCode());
+        hash = 31 * hash + field295;
+        hash = 31 * hash + Long.hashCode(field296);
+        hash = 31 * hash + (field297 == null ? 0 : field297.hashCode());
+        hash = 31 * hash + Double.hashCode(field298);
+        hash = 31 * hash + (field299 == null ? 0 : field299.hashCode());
+        return hash;
+    }
+
+    public List<String> describeChanges(LargeClass other) {
+        List<String> changes = new ArrayList<>();
+        if (field0 != other.field0) {
+            changes.add("field0: " + field0 + " -> " + other.field0);
+        }
+        if (field1 != other.field1) {
+            changes.add("field1: " + field1 + " -> " + other.field1);
+        }
+        if (!java.util.Objects.equals(field2, other.field2)) {
+            changes.add("field2: " + field2 + " -> " + other.field2);
+        }
+        if (field3 != other.field3) {
+            changes.add("field3: " + field3 + " -> " + other.field3);
+        }
+        if (!java.util.Objects.equals(field4, other.field4)) {
+            changes.add("field4: " + field4 + " -> " + other.field4);
+        }
+        if (field5 != other.field5) {
+            changes.add("field5: " + field5 + " -> " + other.field5);
+        }
+        if (field6 != other.field6) {
+            changes.add("field6: " + field6 + " -> " + other.field6);
+        }
+        if (!java.util.Objects.equals(field7, other.field7)) {
+            changes.add("field7: " + field7 + " -> " + other.field7);
+        }
+        if (field8 != other.field8) {
+            changes.add("field8: " + field8 + " -> " + other.field8);
+        }
+        if (!java.util.Objects.equals(field9, other.field9)) {
+            changes.add("field9: " + field9 + " -> " + other.field9);
+        }
+        if (field10 != other.field10) {
+            changes.add("field10: " + field10 + " -> " + other.field10);
+        }
+        if (field11 != other.field11) {
+            changes.add("field11: " + field11 + " -> " + other.field11);
+        }
+        if (!java.util.Objects.equals(field12, other.field12)) {
+            changes.add("field12: " + field12 + " -> " + other.field12);
+        }
+        if (field13 != other.field13) {
+            changes.add("field13: " + field13 + " -> " + other.field13);
+        }
+        if (!java.util.Objects.equals(field14, other.field14)) {
+            changes.add("field14: " + field14 + " -> " + other.field14);
+        }
+        if (field15 != other.field15) {
+            changes.add("field15: " + field15 + " -> " + other.field15);
+        }
+        if (field16 != other.field16) {
+            changes.add("field16: " + field16 + " -> " + other.field16);
+        }
+        if (!java.util.Objects.equals(field17, other.field17)) {
+            changes.add("field17: " + field17 + " -> " + other.field17);
+        }
+        if (field18 != other.field18) {
+            changes.add("field18: " + field18 + " -> " + other.field18);
+        }
+        if (!java.util.Objects.equals(field19, other.field19)) {
+            changes.add("field19: " + field19 + " -> " + other.field19);
+        }
+        if (field20 != other.field20) {
+            changes.add("field20: " + field20 + " -> " + other.field20);
+        }
+        if (field21 != other.field21) {
+            changes.add("field21: " + field21 + " -> " + other.field21);
+        }
+        if (!java.util.Objects.equals(field22, other.field22)) {
+            changes.add("field22: " + field22 + " -> " + other.field22);
+        }
+        if (field23 != other.field23) {
+            changes.add("field23: " + field23 + " -> " + other.field23);
+        }
+        if (!java.util.Objects.equals(field24, other.field24)) {
+            changes.add("field24: " + field24 + " -> " + other.field24);
+        }
+        if (field25 != other.field25) {
+            changes.add("field25: " + field25 + " -> " + other.field25);
+        }
+        if (field26 != other.field26) {
+            changes.add("field26: " + field26 + " -> " + other.field26);
+        }
+        if (!java.util.Objects.equals(field27, other.field27)) {
+            changes.add("field27: " + field27 + " -> " + other.field27);
+        }
+        if (field28 != other.field28) {
+            changes.add("field28: " + field28 + " -> " + other.field28);
+        }
+        if (!java.util.Objects.equals(field29, other.field29)) {
+            changes.add("field29: " + field29 + " -> " + other.field29);
+        }
+        if (field30 != other.field30) {
+            changes.add("field30: " + field30 + " -> " + other.field30);
+        }
+        if (field31 != other.field31) {
+            changes.add("field31: " + field31 + " -> " + other.field31);
+        }
+        if (!java.util.Objects.equals(field32, other.field32)) {
+            changes.add("field32: " + field32 + " -> " + other.field32);
+        }
+        if (field33 != other.field33) {
+            changes.add("field33: " + field33 + " -> " + other.field33);
+        }
+        if (!java.util.Objects.equals(field34, other.field34)) {
+            changes.add("field34: " + field34 + " -> " + other.field34);
+        }
+        if (field35 != other.field35) {
+            changes.add("field35: " + field35 + " -> " + other.field35);
+        }
+        if (field36 != other.field36) {
+            changes.add("field36: " + field36 + " -> " + other.field36);
+        }
+        if (!java.util.Objects.equals(field37, other.field37)) {
+            changes.add("field37: " + field37 + " -> " + other.field37);
+        }
+        if (field38 != other.field38) {
+            changes.add("field38: " + field38 + " -> " + other.field38);
+        }
+        if (!java.util.Objects.equals(field39, other.field39)) {
+            changes.add("field39: " + field39 + " -> " + other.field39);
+        }
+        if (field40 != other.field40) {
+            changes.add("field40: " + field40 + " -> " + other.field40);
+        }
+        if (field41 != other.field41) {
+            changes.add("field41: " + field41 + " -> " + other.field41);
+        }
+        if (!java.util.Objects.equals(field42, other.field42)) {
+            changes.add("field42: " + field42 + " -> " + other.field42);
+        }
+        if (field43 != other.field43) {
+            changes.add("field43: " + field43 + " -> " + other.field43);
+        }
+        if (!java.util.Objects.equals(field44, other.field44)) {
+            changes.add("field44: " + field44 + " -> " + other.field44);
+        }
+        if (field45 != other.field45) {
+            changes.add("field45: " + field45 + " -> " + other.field45);
+        }
+        if (field46 != other.field46) {
+            changes.add("field46: " + field46 + " -> " + other.field46);
+        }
+        if (!java.util.Objects.equals(field47, other.field47)) {
+            changes.add("field47: " + field47 + " -> " + other.field47);
+        }
+        if (field48 != other.field48) {
+            changes.add("field48: " + field48 + " -> " + other.field48);
+        }
+        if (!java.util.Objects.equals(field49, other.field49)) {
+            changes.add("field49: " + field49 + " -> " + other.field49);
+        }
+        if (field50 != other.field50) {
+            changes.add("field50: " + field50 + " -> " + other.field50);
+        }
+        if (field51 != other.field51) {
+            changes.add("field51: " + field51 + " -> " + other.field51);
+        }
+        if (!java.util.Objects.equals(field52, other.field52)) {
+            changes.add("field52: " + field52 + " -> " + other.field52);
+        }
+        if (field53 != other.field53) {
+            changes.add("field53: " + field53 + " -> " + other.field53);
+        }
+        if (!java.util.Objects.equals(field54, other.field54)) {
+            changes.add("field54: " + field54 + " -> " + other.field54);
+        }
+        if (field55 != other.field55) {
+            changes.add("field55: " + field55 + " -> " + other.field55);
+        }
+        if (field56 != other.field56) {
+            changes.add("field56: " + field56 + " -> " + other.field56);
+        }
+        if (!java.util.Objects.equals(field57, other.field57)) {
+            changes.add("field57: " + field57 + " -> " + other.field57);
+        }
+        if (field58 != other.field58) {
+            changes.add("field58: " + field58 + " -> " + other.field58);
+        }
+        if (!java.util.Objects.equals(field59, other.field59)) {
+            changes.add("field59: " + field59 + " -> " + other.field59);
+        }
+        if (field60 != other.field60) {
+            changes.add("field60: " + field60 + " -> " + other.field60);
+        }
+        if (field61 != other.field61) {
+            changes.add("field61: " + field61 + " -> " + other.field61);
+        }
+        if (!java.util.Objects.equals(field62, other.field62)) {
+            changes.add("field62: " + field62 + " -> " + other.field62);
+        }
+        if (field63 != other.field63) {
+            changes.add("field63: " + field63 + " -> " + other.field63);
+        }
+        if (!java.util.Objects.equals(field64, other.field64)) {
+            changes.add("field64: " + field64 + " -> " + other.field64);
+        }
+        if (field65 != other.field65) {
+            changes.add("field65: " + field65 + " -> " + other.field65);
+        }
+        if (field66 != other.field66) {
+            changes.add("field66: " + field66 + " -> " + other.field66);
+        }
+        if (!java.util.Objects.equals(field67, other.field67)) {
+            changes.add("field67: " + field67 + " -> " + other.field67);
+        }
+        if (field68 != other.field68) {
+            changes.add("field68: " + field68 + " -> " + other.field68);
+        }
+        if (!java.util.Objects.equals(field69, other.field69)) {
+            changes.add("field69: " + field69 + " -> " + other.field69);
+        }
+        if (field70 != other.field70) {
+            changes.add("field70: " + field70 + " -> " + other.field70);
+        }
+        if (field71 != other.field71) {
+            changes.add("field71: " + field71 + " -> " + other.field71);
+        }
+        if (!java.util.Objects.equals(field72, other.field72)) {
+            changes.add("field72: " + field72 + " -> " + other.field72);
+        }
+        if (field73 != other.field73) {
+            changes.add("field73: " + field73 + " -> " + other.field73);
+        }
+        if (!java.util.Objects.equals(field74, other.field74)) {
+            changes.add("field74: " + field74 + " -> " + other.field74);
+        }
+        if (field75 != other.field75) {
+            changes.add("field75: " + field75 + " -> " + other.field75);
+        }
+        if (field76 != other.field76) {
+            changes.add("field76: " + field76 + " -> " + other.field76);
+        }
+        if (!java.util.Objects.equals(field77, other.field77)) {
+            changes.add("field77: " + field77 + " -> " + other.field77);
+        }
+        if (field78 != other.field78) {
+            changes.add("field78: " + field78 + " -> " + other.field78);
+        }
+        if (!java.util.Objects.equals(field79, other.field79)) {
+            changes.add("field79: " + field79 + " -> " + other.field79);
+        }
+        if (field80 != other.field80) {
+            changes.add("field80: " + field80 + " -> " + other.field80);
+        }
+        if (field81 != other.field81) {
+            changes.add("field81: " + field81 + " -> " + other.field81);
+        }
+        if (!java.util.Objects.equals(field82, other.field82)) {
+            changes.add("field82: " + field82 + " -> " + other.field82);
+        }
+        if (field83 != other.field83) {
+            changes.add("field83: " + field83 + " -> " + other.field83);
+        }
+        if (!java.util.Objects.equals(field84, other.field84)) {
+            changes.add("field84: " + field84 + " -> " + other.field84);
+        }
+        if (field85 != other.field85) {
+            changes.add("field85: " + field85 + " -> " + other.field85);
+        }
+        if (field86 != other.field86) {
+            changes.add("field86: " + field86 + " -> " + other.field86);
+        }
+        if (!java.util.Objects.equals(field87, other.field87)) {
+            changes.add("field87: " + field87 + " -> " + other.field87);
+        }
+        if (field88 != other.field88) {
+            changes.add("field88: " + field88 + " -> " + other.field88);
+        }
+        if (!java.util.Objects.equals(field89, other.field89)) {
+            changes.add("field89: " + field89 + " -> " + other.field89);
+        }
+        if (field90 != other.field90) {
+            changes.add("field90: " + field90 + " -> " + other.field90);
+        }
+        if (field91 != other.field91) {
+            changes.add("field91: " + field91 + " -> " + other.field91);
+        }
+        if (!java.util.Objects.equals(field92, other.field92)) {
+            changes.add("field92: " + field92 + " -> " + other.field92);
+        }
+        if (field93 != other.field93) {
+            changes.add("field93: " + field93 + " -> " + other.field93);
+        }
+        if (!java.util.Objects.equals(field94, other.field94)) {
+            changes.add("field94: " + field94 + " -> " + other.field94);
+        }
+        if (field95 != other.field95) {
+            changes.add("field95: " + field95 + " -> " + other.field95);
+        }
+        if (field96 != other.field96) {
+            changes.add("field96: " + field96 + " -> " + other.field96);
+        }
+        if (!java.util.Objects.equals(field97, other.field97)) {
+            changes.add("field97: " + field97 + " -> " + other.field97);
+        }
+        if (field98 != other.field98) {
+            changes.add("field98: " + field98 + " -> " + other.field98);
+        }
+        if (!java.util.Objects.equals(field99, other.field99)) {
+            changes.add("field99: " + field99 + " -> " + other.field99);
+        }
+        if (field100 != other.field100) {
+            changes.add("field100: " + field100 + " -> " + other.field100);
+        }
+        if (field101 != other.field101) {
+            changes.add("field101: " + field101 + " -> " + other.field101);
+        }
+        if (!java.util.Objects.equals(field102, other.field102)) {
+            changes.add("field102: " + field102 + " -> " + other.field102);
+        }
+        if (field103 != other.field103) {
+            changes.add("field103: " + field103 + " -> " + other.field103);
+        }
+        if (!java.util.Objects.equals(field104, other.field104)) {
+            changes.add("field104: " + field104 + " -> " + other.field104);
+        }
+        if (field105 != other.field105) {
+            changes.add("field105: " + field105 + " -> " + other.field105);
+        }
+        if (field106 != other.field106) {
+            changes.add("field106: " + field106 + " -> " + other.field106);
+        }
+        if (!java.util.Objects.equals(field107, other.field107)) {
+            changes.add("field107: " + field107 + " -> " + other.field107);
+        }
+        if (field108 != other.field108) {
+            changes.add("field108: " + field108 + " -> " + other.field108);
+        }
+        if (!java.util.Objects.equals(field109, other.field109)) {
+            changes.add("field109: " + field109 + " -> " + other.field109);
+        }
+        if (field110 != other.field110) {
+            changes.add("field110: " + field110 + " -> " + other.field110);
+        }
+        if (field111 != other.field111) {
+            changes.add("field111: " + field111 + " -> " + other.field111);
+        }
+        if (!java.util.Objects.equals(field112, other.field112)) {
+            changes.add("field112: " + field112 + " -> " + other.field112);
+        }
+        if (field113 != other.field113) {
+            changes.add("field113: " + field113 + " -> " + other.field113);
+        }
+        if (!java.util.Objects.equals(field114, other.field114)) {
+            changes.add("field114: " + field114 + " -> " + other.field114);
+        }
+        if (field115 != other.field115) {
+            changes.add("field115: " + field115 + " -> " + other.field115);
+        }
+        if (field116 != other.field116) {
+            changes.add("field116: " + field116 + " -> " + other.field116);
+        }
+        if (!java.util.Objects.equals(field117, other.field117)) {
+            changes.add("field117: " + field117 + " -> " + other.field117);
+        }
+        if (field118 != other.field118) {
+            changes.add("field118: " + field118 + " -> " + other.field118);
+        }
+        if (!java.util.Objects.equals(field119, other.field119)) {
+            changes.add("field119: " + field119 + " -> " + other.field119);
+        }
+        if (field120 != other.field120) {
+            changes.add("field120: " + field120 + " -> " + other.field120);
+        }
+        if (field121 != other.field121) {
+            changes.add("field121: " + field121 + " -> " + other.field121);
+        }
+        if (!java.util.Objects.equals(field122, other.field122)) {
+            changes.add("field122: " + field122 + " -> " + other.field122);
+        }
+        if (field123 != other.field123) {
+            changes.add("field123: " + field123 + " -> " + other.field123);
+        }
+        if (!java.util.Objects.equals(field124, other.field124)) {
+            changes.add("field124: " + field124 + " -> " + other.field124);
+        }
+        if (field125 != other.field125) {
+            changes.add("field125: " + field125 + " -> " + other.field125);
+        }
+        if (field126 != other.field126) {
+            changes.add("field126: " + field126 + " -> " + other.field126);
+        }
+        if (!java.util.Objects.equals(field127, other.field127)) {
+            changes.add("field127: " + field127 + " -> " + other.field127);
+        }
+        if (field128 != other.field128) {
+            changes.add("field128: " + field128 + " -> " + other.field128);
+        }
+        if (!java.util.Objects.equals(field129, other.field129)) {
+            changes.add("field129: " + field129 + " -> " + other.field129);
+        }
+        if (field130 != other.field130) {
+            changes.add("field130: " + field130 + " -> " + other.field130);
+        }
+        if (field131 != other.field131) {
+            changes.add("field131: " + field131 + " -> " + other.field131);
+        }
+        if (!java.util.Objects.equals(field132, other.field132)) {
+            changes.add("field132: " + field132 + " -> " + other.field132);
+        }
+        if (field133 != other.field133) {
+            changes.add("field133: " + field133 + " -> " + other.field133);
+        }
+        if (!java.util.Objects.equals(field134, other.field134)) {
+            changes.add("field134: " + field134 + " -> " + other.field134);
+        }
+        if (field135 != other.field135) {
+            changes.add("field135: " + field135 + " -> " + other.field135);
+        }
+        if (field136 != other.field136) {
+            changes.add("field136: " + field136 + " -> " + other.field136);
+        }
+        if (!java.util.Objects.equals(field137, other.field137)) {
+            changes.add("field137: " + field137 + " -> " + other.field137);
+        }
+        if (field138 != other.field138) {
+            changes.add("field138: " + field138 + " -> " + other.field138);
+        }
+        if (!java.util.Objects.equals(field139, other.field139)) {
+            changes.add("field139: " + field139 + " -> " + other.field139);
+        }
+        if (field140 != other.field140) {
+            changes.add("field140: " + field140 + " -> " + other.field140);
+        }
+        if (field141 != other.field141) {
+            changes.add("field141: " + field141 + " -> " + other.field141);
+        }
+        if (!java.util.Objects.equals(field142, other.field142)) {
+            changes.add("field142: " + field142 + " -> " + other.field142);
+        }
+        if (field143 != other.field143) {
+            changes.add("field143: " + field143 + " -> " + other.field143);
+        }
+        if (!java.util.Objects.equals(field144, other.field144)) {
+            changes.add("field144: " + field144 + " -> " + other.field144);
+        }
+        if (field145 != other.field145) {
+            changes.add("field145: " + field145 + " -> " + other.field145);
+        }
+        if (field146 != other.field146) {
+            changes.add("field146: " + field146 + " -> " + other.field146);
+        }
+        if (!java.util.Objects.equals(field147, other.field147)) {
+            changes.add("field147: " + field147 + " -> " + other.field147);
+        }
+        if (field148 != other.field148) {
+            changes.add("field148: " + field148 + " -> " + other.field148);
+        }
+        if (!java.util.Objects.equals(field149, other.field149)) {
+            changes.add("field149: " + field149 + " -> " + other.field149);
+        }
+        if (field150 != other.field150) {
+            changes.add("field150: " + field150 + " -> " + other.field150);
+        }
+        if (field151 != other.field151) {
+            changes.add("field151: " + field151 + " -> " + other.field151);
+        }
+        if (!java.util.Objects.equals(field152, other.field152)) {
+            changes.add("field152: " + field152 + " -> " + other.field152);
+        }
+        if (field153 != other.field153) {
+            changes.add("field153: " + field153 + " -> " + other.field153);
+        }
+        if (!java.util.Objects.equals(field154, other.field154)) {
+            changes.add("field154: " + field154 + " -> " + other.field154);
+        }
+        if (field155 != other.field155) {
+            changes.add("field155: " + field155 + " -> " + other.field155);
+        }
+        if (field156 != other.field156) {
+            changes.add("field156: " + field156 + " -> " + other.field156);
+        }
+        if (!java.util.Objects.equals(field157, other.field157)) {
+            changes.add("field157: " + field157 + " -> " + other.field157);
+        }
+        if (field158 != other.field158) {
+            changes.add("field158: " + field158 + " -> " + other.field158);
+        }
+        if (!java.util.Objects.equals(field159, other.field159)) {
+            changes.add("field159: " + field159 + " -> " + other.field159);
+        }
+        if (field160 != other.field160) {
+            changes.add("field160: " + field160 + " -> " + other.field160);
+        }
+        if (field161 != other.field161) {
+            changes.add("field161: " + field161 + " -> " + other.field161);
+        }
+        if (!java.util.Objects.equals(field162, other.field162)) {
+            changes.add("field162: " + field162 + " -> " + other.field162);
+        }
+        if (field163 != other.field163) {
+            changes.add("field163: " + field163 + " -> " + other.field163);
+        }
+        if (!java.util.Objects.equals(field164, other.field164)) {
+            changes.add("field164: " + field164 + " -> " + other.field164);
+        }
+        if (field165 != other.field165) {
+            changes.add("field165: " + field165 + " -> " + other.field165);
+        }
+        if (field166 != other.field166) {
+            changes.add("field166: " + field166 + " -> " + other.field166);
+        }
+        if (!java.util.Objects.equals(field167, other.field167)) {
+            changes.add("field167: " + field167 + " -> " + other.field167);
+        }
+        if (field168 != other.field168) {
+            changes.add("field168: " + field168 + " -> " + other.field168);
+        }
+        if (!java.util.Objects.equals(field169, other.field169)) {
+            changes.add("field169: " + field169 + " -> " + other.field169);
+        }
+        if (field170 != other.field170) {
+            changes.add("field170: " + field170 + " -> " + other.field170);
+        }
+        if (field171 != other.field171) {
+            changes.add("field171: " + field171 + " -> " + other.field171);
+        }
+        if (!java.util.Objects.equals(field172, other.field172)) {
+            changes.add("field172: " + field172 + " -> " + other.field172);
+        }
+        if (field173 != other.field173) {
+            changes.add("field173: " + field173 + " -> " + other.field173);
+        }
+        if (!java.util.Objects.equals(field174, other.field174)) {
+            changes.add("field174: " + field174 + " -> " + other.field174);
+        }
+        if (field175 != other.field175) {
+            changes.add("field175: " + field175 + " -> " + other.field175);
+        }
+        if (field176 != other.field176) {
+            changes.add("field176: " + field176 + " -> " + other.field176);
+        }
+        if (!java.util.Objects.equals(field177, other.field177)) {
+            changes.add("field177: " + field177 + " -> " + other.field177);
+        }
+        if (field178 != other.field178) {
+            changes.add("field178: " + field178 + " -> " + other.field178);
+        }
+        if (!java.util.Objects.equals(field179, other.field179)) {
+            changes.add("field179: " + field179 + " -> " + other.field179);
+        }
+        if (field180 != other.field180) {
+            changes.add("field180: " + field180 + " -> " + other.field180);
+        }
+        if (field181 != other.field181) {
+            changes.add("field181: " + field181 + " -> " + other.field181);
+        }
+        if (!java.util.Objects.equals(field182, other.field182)) {
+            changes.add("field182: " + field182 + " -> " + other.field182);
+        }
+        if (field183 != other.field183) {
+            changes.add("field183: " + field183 + " -> " + other.field183);
+        }
+        if (!java.util.Objects.equals(field184, other.field184)) {
+            changes.add("field184: " + field184 + " -> " + other.field184);
+        }
+        if (field185 != other.field185) {
+            changes.add("field185: " + field185 + " -> " + other.field185);
+        }
+        if (field186 != other.field186) {
+            changes.add("field186: " + field186 + " -> " + other.field186);
+        }
+        if (!java.util.Objects.equals(field187, other.field187)) {
+            changes.add("field187: " + field187 + " -> " + other.field187);
+        }
+        if (field188 != other.field188) {
+            changes.add("field188: " + field188 + " -> " + other.field188);
+        }
+        if (!java.util.Objects.equals(field189, other.field189)) {
+            changes.add("field189: " + field189 + " -> " + other.field189);
+        }
+        if (field190 != other.field190) {
+            changes.add("field190: " + field190 + " -> " + other.field190);
+        }
+        if (field191 != other.field191) {
+            changes.add("field191: " + field191 + " -> " + other.field191);
+        }
+        if (!java.util.Objects.equals(field192, other.field192)) {
+            changes.add("field192: " + field192 + " -> " + other.field192);
+        }
+        if (field193 != other.field193) {
+            changes.add("field193: " + field193 + " -> " + other.field193);
+        }
+        if (!java.util.Objects.equals(field194, other.field194)) {
+            changes.add("field194: " + field194 + " -> " + other.field194);
+        }
+        if (field195 != other.field195) {
+            changes.add("field195: " + field195 + " -> " + other.field195);
+        }
+        if (field196 != other.field196) {
+            changes.add("field196: " + field196 + " -> " + other.field196);
+        }
+        if (!java.util.Objects.equals(field197, other.field197)) {
+            changes.add("field197: " + field197 + " -> " + other.field197);
+        }
+        if (field198 != other.field198) {
+            changes.add("field198: " + field198 + " -> " + other.field198);
+        }
+        if (!java.util.Objects.equals(field199, other.field199)) {
+            changes.add("field199: " + field199 + " -> " + other.field199);
+        }
+        if (field200 != other.field200) {
+            changes.add("field200: " + field200 + " -> " + other.field200);
+        }
+        if (field201 != other.field201) {
+            changes.add("field201: " + field201 + " -> " + other.field201);
+        }
+        if (!java.util.Objects.equals(field202, other.field202)) {
+            changes.add("field202: " + field202 + " -> " + other.field202);
+        }
+        if (field203 != other.field203) {
+            changes.add("field203: " + field203 + " -> " + other.field203);
+        }
+        if (!java.util.Objects.equals(field204, other.field204)) {
+            changes.add("field204: " + field204 + " -> " + other.field204);
+        }
+        if (field205 != other.field205) {
+            changes.add("field205: " + field205 + " -> " + other.field205);
+        }
+        if (field206 != other.field206) {
+            changes.add("field206: " + field206 + " -> " + other.field206);
+        }
+        if (!java.util.Objects.equals(field207, other.field207)) {
+            changes.add("field207: " + field207 + " -> " + other.field207);
+        }
+        if (field208 != other.field208) {
+            changes.add("field208: " + field208 + " -> " + other.field208);
+        }
+        if (!java.util.Objects.equals(field209, other.field209)) {
+            changes.add("field209: " + field209 + " -> " + other.field209);
+        }
+        if (field210 != other.field210) {
+            changes.add("field210: " + field210 + " -> " + other.field210);
+        }
+        if (field211 != other.field211) {
+            changes.add("field211: " + field211 + " -> " + other.field211);
+        }
+        if (!java.util.Objects.equals(field212, other.field212)) {
+            changes.add("field212: " + field212 + " -> " + other.field212);
+        }
+        if (field213 != other.field213) {
+            changes.add("field213: " + field213 + " -> " + other.field213);
+        }
+        if (!java.util.Objects.equals(field214, other.field214)) {
+            changes.add("field214: " + field214 + " -> " + other.field214);
+        }
+        if (field215 != other.field215) {
+            changes.add("field215: " + field215 + " -> " + other.field215);
+        }
+        if (field216 != other.field216) {
+            changes.add("field216: " + field216 + " -> " + other.field216);
+        }
+        if (!java.util.Objects.equals(field217, other.field217)) {
+            changes.add("field217: " + field217 + " -> " + other.field217);
+        }
+        if (field218 != other.field218) {
+            changes.add("field218: " + field218 + " -> " + other.field218);
+        }
+        if (!java.util.Objects.equals(field219, other.field219)) {
+            changes.add("field219: " + field219 + " -> " + other.field219);
+        }
+        if (field220 != other.field220) {
+            changes.add("field220: " + field220 + " -> " + other.field220);
+        }
+        if (field221 != other.field221) {
+            changes.add("field221: " + field221 + " -> " + other.field221);
+        }
+        if (!java.util.Objects.equals(field222, other.field222)) {
+            changes.add("field222: " + field222 + " -> " + other.field222);
+        }
+        if (field223 != other.field223) {
+            changes.add("field223: " + field223 + " -> " + other.field223);
+        }
+        if (!java.util.Objects.equals(field224, other.field224)) {
+            changes.add("field224: " + field224 + " -> " + other.field224);
+        }
+        if (field225 != other.field225) {
+            changes.add("field225: " + field225 + " -> " + other.field225);
+        }
+        if (field226 != other.field226) {
+            changes.add("field226: " + field226 + " -> " + other.field226);
+        }
+        if (!java.util.Objects.equals(field227, other.field227)) {
+            changes.add("field227: " + field227 + " -> " + other.field227);
+        }
+        if (field228 != other.field228) {
+            changes.add("field228: " + field228 + " -> " + other.field228);
+        }
+        if (!java.util.Objects.equals(field229, other.field229)) {
+            changes.add("field229: " + field229 + " -> " + other.field229);
+        }
+        if (field230 != other.field230) {
+            changes.add("field230: " + field230 + " -> " + other.field230);
+        }
+        if (field231 != other.field231) {
+            changes.add("field231: " + field231 + " -> " + other.field231);
+        }
+        if (!java.util.Objects.equals(field232, other.field232)) {
+            changes.add("field232: " + field232 + " -> " + other.field232);
+        }
+        if (field233 != other.field233) {
+            changes.add("field233: " + field233 + " -> " + other.field233);
+        }
+        if (!java.util.Objects.equals(field234, other.field234)) {
+            changes.add("field234: " + field234 + " -> " + other.field234);
+        }
+        if (field235 != other.field235) {
+            changes.add("field235: " + field235 + " -> " + other.field235);
+        }
+        if (field236 != other.field236) {
+            changes.add("field236: " + field236 + " -> " + other.field236);
+        }
+        if (!java.util.Objects.equals(field237, other.field237)) {
+            changes.add("field237: " + field237 + " -> " + other.field237);
+        }
+        if (field238 != other.field238) {
+            changes.add("field238: " + field238 + " -> " + other.field238);
+        }
+        if (!java.util.Objects.equals(field239, other.field239)) {
+            changes.add("field239: " + field239 + " -> " + other.field239);
+        }
+        if (field240 != other.field240) {
+            changes.add("field240: " + field240 + " -> " + other.field240);
+        }
+        if (field241 != other.field241) {
+            changes.add("field241: " + field241 + " -> " + other.field241);
+        }
+        if (!java.util.Objects.equals(field242, other.field242)) {
+            changes.add("field242: " + field242 + " -> " + other.field242);
+        }
+        if (field243 != other.field243) {
+            changes.add("field243: " + field243 + " -> " + other.field243);
+        }
+        if (!java.util.Objects.equals(field244, other.field244)) {
+            changes.add("field244: " + field244 + " -> " + other.field244);
+        }
+        if (field245 != other.field245) {
+            changes.add("field245: " + field245 + " -> " + other.field245);
+        }
+        if (field246 != other.field246) {
+            changes.add("field246: " + field246 + " -> " + other.field246);
+        }
+        if (!java.util.Objects.equals(field247, other.field247)) {
+            changes.add("field247: " + field247 + " -> " + other.field247);
+        }
+        if (field248 != other.field248) {
+            changes.add("field248: " + field248 + " -> " + other.field248);
+        }
+        if (!java.util.Objects.equals(field249, other.field249)) {
+            changes.add("field249: " + field249 + " -> " + other.field249);
+        }
+        if (field250 != other.field250) {
+            changes.add("field250: " + field250 + " -> " + other.field250);
+        }
+        if (field251 != other.field251) {
+            changes.add("field251: " + field251 + " -> " + other.field251);
+        }
+        if (!java.util.Objects.equals(field252, other.field252)) {
+            changes.add("field252: " + field252 + " -> " + other.field252);
+        }
+        if (field253 != other.field253) {
+            changes.add("field253: " + field253 + " -> " + other.field253);
+        }
+        if (!java.util.Objects.equals(field254, other.field254)) {
+            changes.add("field254: " + field254 + " -> " + other.field254);
+        }
+        if (field255 != other.field255) {
+            changes.add("field255: " + field255 + " -> " + other.field255);
+        }
+        if (field256 != other.field256) {
+            changes.add("field256: " + field256 + " -> " + other.field256);
+        }
+        if (!java.util.Objects.equals(field257, other.field257)) {
+            changes.add("field257: " + field257 + " -> " + other.field257);
+        }
+        if (field258 != other.field258) {
+            changes.add("field258: " + field258 + " -> " + other.field258);
+        }
+        if (!java.util.Objects.equals(field259, other.field259)) {
+            changes.add("field259: " + field259 + " -> " + other.field259);
+        }
+        if (field260 != other.field260) {
+            changes.add("field260: " + field260 + " -> " + other.field260);
+        }
+        if (field261 != other.field261) {
+            changes.add("field261: " + field261 + " -> " + other.field261);
+        }
+        if (!java.util.Objects.equals(field262, other.field262)) {
+            changes.add("field262: " + field262 + " -> " + other.field262);
+        }
+        if (field263 != other.field263) {
+            changes.add("field263: " + field263 + " -> " + other.field263);
+        }
+        if (!java.util.Objects.equals(field264, other.field264)) {
+            changes.add("field264: " + field264 + " -> " + other.field264);
+        }
+        if (field265 != other.field265) {
+            changes.add("field265: " + field265 + " -> " + other.field265);
+        }
+        if (field266 != other.field266) {
+            changes.add("field266: " + field266 + " -> " + other.field266);
+        }
+        if (!java.util.Objects.equals(field267, other.field267)) {
+            changes.add("field267: " + field267 + " -> " + other.field267);
+        }
+        if (field268 != other.field268) {
+            changes.add("field268: " + field268 + " -> " + other.field268);
+        }
+        if (!java.util.Objects.equals(field269, other.field269)) {
+            changes.add("field269: " + field269 + " -> " + other.field269);
+        }
+        if (field270 != other.field270) {
+            changes.add("field270: " + field270 + " -> " + other.field270);
+        }
+        if (field271 != other.field271) {
+            changes.add("field271: " + field271 + " -> " + other.field271);
+        }
+        if (!java.util.Objects.equals(field272, other.field272)) {
+            changes.add("field272: " + field272 + " -> " + other.field272);
+        }
+        if (field273 != other.field273) {
+            changes.add("field273: " + field273 + " -> " + other.field273);
+        }
+        if (!java.util.Objects.equals(field274, other.field274)) {
+            changes.add("field274: " + field274 + " -> " + other.field274);
+        }
+        if (field275 != other.field275) {
+            changes.add("field275: " + field275 + " -> " + other.field275);
+        }
+        if (field276 != other.field276) {
+            changes.add("field276: " + field276 + " -> " + other.field276);
+        }
+        if (!java.util.Objects.equals(field277, other.field277)) {
+            changes.add("field277: " + field277 + " -> " + other.field277);
+        }
+        if (field278 != other.field278) {
+            changes.add("field278: " + field278 + " -> " + other.field278);
+        }
+        if (!java.util.Objects.equals(field279, other.field279)) {
+            changes.add("field279: " + field279 + " -> " + other.field279);
+        }
+        if (field280 != other.field280) {
+            changes.add("field280: " + field280 + " -> " + other.field280);
+        }
+        if (field281 != other.field281) {
+            changes.add("field281: " + field281 + " -> " + other.field281);
+        }
+        if (!java.util.Objects.equals(field282, other.field282)) {
+            changes.add("field282: " + field282 + " -> " + other.field282);
+        }
+        if (field283 != other.field283) {
+            changes.add("field283: " + field283 + " -> " + other.field283);
+        }
+        if (!java.util.Objects.equals(field284, other.field284)) {
+            changes.add("field284: " + field284 + " -> " + other.field284);
+        }
+        if (field285 != other.field285) {
+            changes.add("field285: " + field285 + " -> " + other.field285);
+        }
+        if (field286 != other.field286) {
+            changes.add("field286: " + field286 + " -> " + other.field286);
+        }
+        if (!java.util.Objects.equals(field287, other.field287)) {
+            changes.add("field287: " + field287 + " -> " + other.field287);
+        }
+        if (field288 != other.field288) {
+            changes.add("field288: " + field288 + " -> " + other.field288);
+        }
+        if (!java.util.Objects.equals(field289, other.field289)) {
+            changes.add("field289: " + field289 + " -> " + other.field289);
+        }
+        if (field290 != other.field290) {
+            changes.add("field290: " + field290 + " -> " + other.field290);
+        }
+        if (field291 != other.field291) {
+            changes.add("field291: " + field291 + " -> " + other.field291);
+        }
+        if (!java.util.Objects.equals(field292, other.field292)) {
+            changes.add("field292: " + field292 + " -> " + other.field292);
+        }
+        if (field293 != other.field293) {
+            changes.add("field293: " + field293 + " -> " + other.field293);
+        }
+        if (!java.util.Objects.equals(field294, other.field294)) {
+            changes.add("field294: " + field294 + " -> " + other.field294);
+        }
+        if (field295 != other.field295) {
+            changes.add("field295: " + field295 + " -> " + other.field295);
+        }
+        if (field296 != other.field296) {
+            changes.add("field296: " + field296 + " -> " + other.field296);
+        }
+        if (!java.util.Objects.equals(field297, other.field297)) {
+            changes.add("field297: " + field297 + " -> " + other.field297);
+        }
+        if (field298 != other.field298) {
+            changes.add("field298: " + field298 + " -> " + other.field298);
+        }
+        if (!java.util.Objects.equals(field299, other.field299)) {
+            changes.add("field299: " + field299 + " -> " + other.field299);
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,1421 @@
+package benchmark;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Stream pipelines with many lambdas and method references.
+ */
+public class ManyLambdas {
+    public static class Item {
+        final String name;
+        final int size;
+        final double weight;
+
+        Item(String name, int size, double weight) {
+            this.name = name;
+            this.size = size;
+            this.weight = weight;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getSize() {
+            return size;
+        }
+
+        double getWeight() {
+            return weight;
+        }
+    }
+
+    public List<String> pipeline0(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 0)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group0(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 2;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 0.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed0(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline1(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 1)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group1(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 3;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 1.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed1(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline2(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 2)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group2(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 4;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 2.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed2(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline3(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 3)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group3(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 5;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 3.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed3(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline4(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 4)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group4(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 6;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 4.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed4(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline5(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 5)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group5(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 7;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 5.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed5(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline6(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 6)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group6(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 8;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 6.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed6(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline7(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 7)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group7(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 9;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 7.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed7(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline8(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 8)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group8(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 10;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 8.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed8(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline9(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 9)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group9(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 11;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 9.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed9(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline10(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 10)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group10(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 12;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 10.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed10(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline11(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 11)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group11(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 13;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 11.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed11(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline12(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 12)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group12(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 14;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 12.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed12(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline13(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 13)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group13(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 15;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 13.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed13(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline14(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 14)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group14(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 16;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 14.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed14(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline15(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 15)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group15(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 17;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 15.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed15(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline16(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 16)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group16(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 18;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 16.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed16(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline17(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 17)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group17(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 19;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 17.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed17(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline18(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 18)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group18(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 20;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 18.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed18(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline19(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 19)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group19(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 21;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 19.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed19(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline20(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 20)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group20(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 22;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 20.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed20(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline21(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 21)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group21(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 23;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 21.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed21(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline22(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 22)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group22(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 24;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 22.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed22(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline23(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 23)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group23(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 25;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 23.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed23(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline24(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 24)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group24(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 26;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 24.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed24(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline25(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 25)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group25(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 27;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 25.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed25(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline26(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 26)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group26(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 28;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 26.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed26(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline27(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 27)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group27(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 29;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 27.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed27(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline28(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 28)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group28(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 30;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 28.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed28(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline29(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 29)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group29(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 31;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 29.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed29(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline30(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 30)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group30(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 32;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 30.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed30(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline31(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 31)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group31(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 33;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 31.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed31(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline32(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 32)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group32(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 34;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 32.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed32(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline33(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 33)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group33(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 35;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 33.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed33(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline34(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 34)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group34(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 36;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 34.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed34(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline35(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 35)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group35(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 37;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 35.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed35(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline36(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 36)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group36(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 38;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 36.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed36(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline37(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 37)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group37(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 39;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 37.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed37(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline38(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 38)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group38(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 40;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 38.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed38(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline39(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 39)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group39(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 41;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 39.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed39(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline40(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 40)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group40(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 42;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 40.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed40(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline41(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 41)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group41(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 43;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 41.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed41(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline42(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 42)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group42(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 44;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 42.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed42(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline43(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 43)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group43(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 45;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 43.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed43(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline44(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 44)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group44(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 46;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 44.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed44(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline45(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 45)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group45(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 47;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 45.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed45(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline46(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 46)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group46(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 48;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 46.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed46(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline47(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 47)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group47(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 49;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 47.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed47(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline48(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 48)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group48(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 50;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 48.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed48(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline49(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 49)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group49(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 51;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 49.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed49(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline50(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 50)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group50(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 52;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 50.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed50(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline51(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 51)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group51(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 53;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 51.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed51(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline52(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 52)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group52(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 54;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 52.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed52(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline53(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 53)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group53(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 55;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 53.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed53(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline54(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 54)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group54(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 56;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 54.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed54(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline55(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 55)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group55(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 57;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 55.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed55(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline56(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 56)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group56(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 58;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 56.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed56(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline57(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 57)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group57(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 59;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 57.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed57(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline58(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 58)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group58(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 60;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 58.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed58(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+    public List<String> pipeline59(List<Item> items) {
+        return items.stream()
+            .filter(item -> item.getSize() > 59)
+            .map(item -> new Item(item.getName().trim(), item.getSize() * 2, item.getWeight()))
+            .sorted(Comparator.comparing(Item::getSize).thenComparing(item -> item.getName()))
+            .map(Item::getName)
+            .map(name -> Optional.ofNullable(name).map(String::toUpperCase).orElse(""))
+            .collect(Collectors.toList());
+    }
+
+    public Map<Integer, Long> group59(List<Item> items) {
+        Function<Item, Integer> key = item -> item.getSize() % 61;
+        Supplier<Stream<Item>> supplier = () -> items.stream().filter(item -> item.getWeight() > 59.5);
+        return supplier.get().collect(Collectors.groupingBy(key, Collectors.counting()));
+    }
+
+    public int boxed59(List<Item> items) {
+        return IntStream.range(0, items.size())
+            .boxed()
+            .map(i -> items.get(i).getSize() + i)
+            .reduce(0, (a, b) -> a + b);
+    }
+
+}
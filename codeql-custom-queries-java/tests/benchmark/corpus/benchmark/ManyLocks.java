@@ -0,0 +1,1019 @@
+package benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Class using many different forms of synchronization for its fields.
+ */
+public class ManyLocks {
+    private final Object monitor = new Object();
+    private final Lock lock = new ReentrantLock();
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final Lock[] stripes = new Lock[16];
+    private final List<String> synchronizedList = Collections.synchronizedList(new ArrayList<>());
+    private final Map<String, Integer> synchronizedMap = Collections.synchronizedMap(new HashMap<>());
+    private volatile boolean closed;
+
+    private int counter0;
+    private int counter1;
+    private int counter2;
+    private int counter3;
+    private int counter4;
+    private int counter5;
+    private int counter6;
+    private int counter7;
+    private int counter8;
+    private int counter9;
+    private int counter10;
+    private int counter11;
+    private int counter12;
+    private int counter13;
+    private int counter14;
+    private int counter15;
+    private int counter16;
+    private int counter17;
+    private int counter18;
+    private int counter19;
+    private int counter20;
+    private int counter21;
+    private int counter22;
+    private int counter23;
+    private int counter24;
+    private int counter25;
+    private int counter26;
+    private int counter27;
+    private int counter28;
+    private int counter29;
+    private int counter30;
+    private int counter31;
+    private int counter32;
+    private int counter33;
+    private int counter34;
+    private int counter35;
+    private int counter36;
+    private int counter37;
+    private int counter38;
+    private int counter39;
+    private int counter40;
+    private int counter41;
+    private int counter42;
+    private int counter43;
+    private int counter44;
+    private int counter45;
+    private int counter46;
+    private int counter47;
+    private int counter48;
+    private int counter49;
+    private int counter50;
+    private int counter51;
+    private int counter52;
+    private int counter53;
+    private int counter54;
+    private int counter55;
+    private int counter56;
+    private int counter57;
+    private int counter58;
+    private int counter59;
+
+    public synchronized void increment0() {
+        counter0++;
+    }
+
+    public int read0() {
+        return counter0;
+    }
+
+    public void increment1() {
+        synchronized (monitor) {
+            counter1++;
+            if (closed) {
+                return;
+            }
+            counter2--;
+        }
+    }
+
+    public int read1() {
+        synchronized (this) {
+            return counter1;
+        }
+    }
+
+    public void increment2() {
+        lock.lock();
+        try {
+            counter2++;
+            if (counter2 > 100) {
+                counter2 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read2() {
+        return counter2;
+    }
+
+    public void increment3() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter3++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read3() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter3;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment4() {
+        Lock stripe = stripes[4];
+        stripe.lock();
+        try {
+            counter4++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read4() {
+        synchronized (stripes) {
+            return counter4;
+        }
+    }
+
+    public void increment5() {
+        synchronized (ManyLocks.class) {
+            counter5++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter5);
+        }
+    }
+
+    public int read5() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter5 += value.length();
+            }
+        }
+        return counter5;
+    }
+
+    public synchronized void increment6() {
+        counter6++;
+    }
+
+    public int read6() {
+        return counter6;
+    }
+
+    public void increment7() {
+        synchronized (monitor) {
+            counter7++;
+            if (closed) {
+                return;
+            }
+            counter8--;
+        }
+    }
+
+    public int read7() {
+        synchronized (this) {
+            return counter7;
+        }
+    }
+
+    public void increment8() {
+        lock.lock();
+        try {
+            counter8++;
+            if (counter8 > 100) {
+                counter8 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read8() {
+        return counter8;
+    }
+
+    public void increment9() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter9++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read9() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter9;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment10() {
+        Lock stripe = stripes[10];
+        stripe.lock();
+        try {
+            counter10++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read10() {
+        synchronized (stripes) {
+            return counter10;
+        }
+    }
+
+    public void increment11() {
+        synchronized (ManyLocks.class) {
+            counter11++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter11);
+        }
+    }
+
+    public int read11() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter11 += value.length();
+            }
+        }
+        return counter11;
+    }
+
+    public synchronized void increment12() {
+        counter12++;
+    }
+
+    public int read12() {
+        return counter12;
+    }
+
+    public void increment13() {
+        synchronized (monitor) {
+            counter13++;
+            if (closed) {
+                return;
+            }
+            counter14--;
+        }
+    }
+
+    public int read13() {
+        synchronized (this) {
+            return counter13;
+        }
+    }
+
+    public void increment14() {
+        lock.lock();
+        try {
+            counter14++;
+            if (counter14 > 100) {
+                counter14 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read14() {
+        return counter14;
+    }
+
+    public void increment15() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter15++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read15() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter15;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment16() {
+        Lock stripe = stripes[0];
+        stripe.lock();
+        try {
+            counter16++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read16() {
+        synchronized (stripes) {
+            return counter16;
+        }
+    }
+
+    public void increment17() {
+        synchronized (ManyLocks.class) {
+            counter17++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter17);
+        }
+    }
+
+    public int read17() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter17 += value.length();
+            }
+        }
+        return counter17;
+    }
+
+    public synchronized void increment18() {
+        counter18++;
+    }
+
+    public int read18() {
+        return counter18;
+    }
+
+    public void increment19() {
+        synchronized (monitor) {
+            counter19++;
+            if (closed) {
+                return;
+            }
+            counter20--;
+        }
+    }
+
+    public int read19() {
+        synchronized (this) {
+            return counter19;
+        }
+    }
+
+    public void increment20() {
+        lock.lock();
+        try {
+            counter20++;
+            if (counter20 > 100) {
+                counter20 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read20() {
+        return counter20;
+    }
+
+    public void increment21() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter21++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read21() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter21;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment22() {
+        Lock stripe = stripes[6];
+        stripe.lock();
+        try {
+            counter22++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read22() {
+        synchronized (stripes) {
+            return counter22;
+        }
+    }
+
+    public void increment23() {
+        synchronized (ManyLocks.class) {
+            counter23++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter23);
+        }
+    }
+
+    public int read23() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter23 += value.length();
+            }
+        }
+        return counter23;
+    }
+
+    public synchronized void increment24() {
+        counter24++;
+    }
+
+    public int read24() {
+        return counter24;
+    }
+
+    public void increment25() {
+        synchronized (monitor) {
+            counter25++;
+            if (closed) {
+                return;
+            }
+            counter26--;
+        }
+    }
+
+    public int read25() {
+        synchronized (this) {
+            return counter25;
+        }
+    }
+
+    public void increment26() {
+        lock.lock();
+        try {
+            counter26++;
+            if (counter26 > 100) {
+                counter26 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read26() {
+        return counter26;
+    }
+
+    public void increment27() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter27++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read27() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter27;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment28() {
+        Lock stripe = stripes[12];
+        stripe.lock();
+        try {
+            counter28++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read28() {
+        synchronized (stripes) {
+            return counter28;
+        }
+    }
+
+    public void increment29() {
+        synchronized (ManyLocks.class) {
+            counter29++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter29);
+        }
+    }
+
+    public int read29() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter29 += value.length();
+            }
+        }
+        return counter29;
+    }
+
+    public synchronized void increment30() {
+        counter30++;
+    }
+
+    public int read30() {
+        return counter30;
+    }
+
+    public void increment31() {
+        synchronized (monitor) {
+            counter31++;
+            if (closed) {
+                return;
+            }
+            counter32--;
+        }
+    }
+
+    public int read31() {
+        synchronized (this) {
+            return counter31;
+        }
+    }
+
+    public void increment32() {
+        lock.lock();
+        try {
+            counter32++;
+            if (counter32 > 100) {
+                counter32 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read32() {
+        return counter32;
+    }
+
+    public void increment33() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter33++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read33() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter33;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment34() {
+        Lock stripe = stripes[2];
+        stripe.lock();
+        try {
+            counter34++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read34() {
+        synchronized (stripes) {
+            return counter34;
+        }
+    }
+
+    public void increment35() {
+        synchronized (ManyLocks.class) {
+            counter35++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter35);
+        }
+    }
+
+    public int read35() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter35 += value.length();
+            }
+        }
+        return counter35;
+    }
+
+    public synchronized void increment36() {
+        counter36++;
+    }
+
+    public int read36() {
+        return counter36;
+    }
+
+    public void increment37() {
+        synchronized (monitor) {
+            counter37++;
+            if (closed) {
+                return;
+            }
+            counter38--;
+        }
+    }
+
+    public int read37() {
+        synchronized (this) {
+            return counter37;
+        }
+    }
+
+    public void increment38() {
+        lock.lock();
+        try {
+            counter38++;
+            if (counter38 > 100) {
+                counter38 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read38() {
+        return counter38;
+    }
+
+    public void increment39() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter39++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read39() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter39;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment40() {
+        Lock stripe = stripes[8];
+        stripe.lock();
+        try {
+            counter40++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read40() {
+        synchronized (stripes) {
+            return counter40;
+        }
+    }
+
+    public void increment41() {
+        synchronized (ManyLocks.class) {
+            counter41++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter41);
+        }
+    }
+
+    public int read41() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter41 += value.length();
+            }
+        }
+        return counter41;
+    }
+
+    public synchronized void increment42() {
+        counter42++;
+    }
+
+    public int read42() {
+        return counter42;
+    }
+
+    public void increment43() {
+        synchronized (monitor) {
+            counter43++;
+            if (closed) {
+                return;
+            }
+            counter44--;
+        }
+    }
+
+    public int read43() {
+        synchronized (this) {
+            return counter43;
+        }
+    }
+
+    public void increment44() {
+        lock.lock();
+        try {
+            counter44++;
+            if (counter44 > 100) {
+                counter44 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read44() {
+        return counter44;
+    }
+
+    public void increment45() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter45++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read45() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter45;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment46() {
+        Lock stripe = stripes[14];
+        stripe.lock();
+        try {
+            counter46++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read46() {
+        synchronized (stripes) {
+            return counter46;
+        }
+    }
+
+    public void increment47() {
+        synchronized (ManyLocks.class) {
+            counter47++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter47);
+        }
+    }
+
+    public int read47() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter47 += value.length();
+            }
+        }
+        return counter47;
+    }
+
+    public synchronized void increment48() {
+        counter48++;
+    }
+
+    public int read48() {
+        return counter48;
+    }
+
+    public void increment49() {
+        synchronized (monitor) {
+            counter49++;
+            if (closed) {
+                return;
+            }
+            counter50--;
+        }
+    }
+
+    public int read49() {
+        synchronized (this) {
+            return counter49;
+        }
+    }
+
+    public void increment50() {
+        lock.lock();
+        try {
+            counter50++;
+            if (counter50 > 100) {
+                counter50 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read50() {
+        return counter50;
+    }
+
+    public void increment51() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter51++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read51() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter51;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment52() {
+        Lock stripe = stripes[4];
+        stripe.lock();
+        try {
+            counter52++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read52() {
+        synchronized (stripes) {
+            return counter52;
+        }
+    }
+
+    public void increment53() {
+        synchronized (ManyLocks.class) {
+            counter53++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter53);
+        }
+    }
+
+    public int read53() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter53 += value.length();
+            }
+        }
+        return counter53;
+    }
+
+    public synchronized void increment54() {
+        counter54++;
+    }
+
+    public int read54() {
+        return counter54;
+    }
+
+    public void increment55() {
+        synchronized (monitor) {
+            counter55++;
+            if (closed) {
+                return;
+            }
+            counter56--;
+        }
+    }
+
+    public int read55() {
+        synchronized (this) {
+            return counter55;
+        }
+    }
+
+    public void increment56() {
+        lock.lock();
+        try {
+            counter56++;
+            if (counter56 > 100) {
+                counter56 = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int read56() {
+        return counter56;
+    }
+
+    public void increment57() {
+        readWriteLock.writeLock().lock();
+        try {
+            counter57++;
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public int read57() {
+        Lock readLock = readWriteLock.readLock();
+        readLock.lock();
+        try {
+            return counter57;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void increment58() {
+        Lock stripe = stripes[10];
+        stripe.lock();
+        try {
+            counter58++;
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public int read58() {
+        synchronized (stripes) {
+            return counter58;
+        }
+    }
+
+    public void increment59() {
+        synchronized (ManyLocks.class) {
+            counter59++;
+        }
+        for (String value : synchronizedList) {
+            synchronizedMap.put(value, counter59);
+        }
+    }
+
+    public int read59() {
+        synchronized (synchronizedList) {
+            for (String value : synchronizedList) {
+                counter59 += value.length();
+            }
+        }
+        return counter59;
+    }
+
+    public void close() {
+        closed = true;
+    }
+}
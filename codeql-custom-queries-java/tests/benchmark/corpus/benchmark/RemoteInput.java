@@ -0,0 +1,334 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads input from a socket and uses it in various ways; provides sources for the
+ * data flow queries.
+ */
+public class RemoteInput {
+    public double handle0(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 0) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input0", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle1(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 1) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input1", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle2(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 2) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input2", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle3(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 3) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input3", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle4(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 4) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input4", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle5(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 5) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input5", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle6(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 6) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input6", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle7(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 7) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input7", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle8(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 8) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input8", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle9(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 9) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input9", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle10(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 10) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input10", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle11(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 11) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input11", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle12(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 12) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input12", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle13(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 13) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input13", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle14(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 14) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input14", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle15(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 15) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input15", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle16(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 16) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input16", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle17(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 17) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input17", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle18(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 18) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input18", line);
+        return sum + String.format(line, value).length();
+    }
+
+    public double handle19(Socket socket) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        String line = reader.readLine();
+        double value = Double.parseDouble(line);
+        long count = Long.parseLong(reader.readLine());
+        double sum = 0;
+        for (long i = 0; i < count; i++) {
+            sum += value * i;
+        }
+        if (sum > 19) {
+            throw new IllegalStateException("Invalid input: " + line);
+        }
+        System.setProperty("last.input19", line);
+        return sum + String.format(line, value).length();
+    }
+
+}
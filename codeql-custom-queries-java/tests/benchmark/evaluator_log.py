@@ -0,0 +1,84 @@
+"""
+Helper functions for reading CodeQL evaluator logs, shared by the benchmark and
+budget scripts in this directory.
+"""
+
+import json
+import subprocess
+from pathlib import Path
+
+
+def run(command, **kwargs):
+    return subprocess.run(command, check=True, stdout=subprocess.PIPE, stderr=subprocess.STDOUT, text=True, **kwargs)
+
+
+def read_log_summary(summary_file):
+    """
+    Reads the summary created by `codeql generate log-summary`, which is a sequence
+    of JSON objects, and yields each of them.
+    """
+    text = Path(summary_file).read_text(encoding="utf-8")
+    decoder = json.JSONDecoder()
+    index = 0
+    while True:
+        while index < len(text) and text[index].isspace():
+            index += 1
+        if index >= len(text):
+            break
+        event, index = decoder.raw_decode(text, index)
+        yield event
+
+
+def normalize_predicate_name(name):
+    """
+    Removes the `#...` suffix (hashes and binding signature) the evaluator appends
+    to predicate names, e.g. `ConcurrencyLib::getMonitorIdentity#2a5f7b#ff` becomes
+    `ConcurrencyLib::getMonitorIdentity`.
+    """
+    return name.split("#", 1)[0]
+
+
+def predicate_name_matches(name, key):
+    """
+    Holds if the predicate name from the evaluator log matches `key`, which is
+    either the complete name without `#...` suffix, or only its last `::` part.
+    """
+    name = normalize_predicate_name(name)
+    return name == key or name.endswith("::" + key)
+
+
+def summarize_evaluator_log(codeql, log_file):
+    """
+    Summarizes the evaluator log using `codeql generate log-summary` and returns
+    a dictionary with the total tuple count, the largest relation size, the slowest
+    predicate and the size of every predicate.
+    """
+    log_file = Path(log_file)
+    summary_file = log_file.with_suffix(".summary.json")
+    run([codeql, "generate", "log-summary", "--format=predicates", str(log_file), str(summary_file)])
+
+    peak_size = 0
+    slowest_predicate = None
+    slowest_millis = -1
+    total_tuples = 0
+    predicate_sizes = {}
+    for event in read_log_summary(summary_file):
+        predicate = event.get("predicateName")
+        if predicate is None:
+            continue
+        size = event.get("resultSize", 0)
+        millis = event.get("millis", 0)
+        total_tuples += size
+        peak_size = max(peak_size, size)
+        predicate_sizes[predicate] = max(predicate_sizes.get(predicate, 0), size)
+        if millis > slowest_millis:
+            slowest_millis = millis
+            slowest_predicate = predicate
+
+    return {
+        "peakRelationSize": peak_size,
+        "totalTupleCount": total_tuples,
+        "slowestPredicate": slowest_predicate,
+        "slowestPredicateMillis": slowest_millis,
+        "predicateSizes": predicate_sizes,
+    }
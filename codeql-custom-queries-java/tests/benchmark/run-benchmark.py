@@ -0,0 +1,154 @@
+#!/usr/bin/env python3
+"""
+Measures the evaluation cost of every query of the `queries` pack on the benchmark
+corpus in the `corpus` directory next to this script.
+
+The corpus consists of synthetic Java sources which exercise the expensive parts
+of the queries: large classes, deeply nested loops, heavy Javadoc, many locks and
+many lambdas. For every query the script records the wall time, the largest
+relation size and the slowest predicate (based on the evaluator log), and prints a
+table sorted by wall time.
+
+Everything runs offline; only a locally installed CodeQL CLI and a JDK (for `javac`,
+to build the corpus database) are needed. Example, run from the repository root:
+
+    python3 codeql-custom-queries-java/tests/benchmark/run-benchmark.py --codeql ./codeql-cli/codeql/codeql
+
+By default the evaluation cache is cleared before each query, so that each query
+is measured on its own, including the cached predicates of the libraries it uses.
+"""
+
+import argparse
+import json
+import os
+import subprocess
+import sys
+import tempfile
+import time
+from pathlib import Path
+
+from evaluator_log import run, summarize_evaluator_log
+
+BENCHMARK_DIR = Path(__file__).resolve().parent
+CORPUS_DIR = BENCHMARK_DIR / "corpus"
+PACK_DIR = BENCHMARK_DIR.parent.parent
+REPO_DIR = PACK_DIR.parent
+QUERIES_DIR = PACK_DIR / "queries"
+
+
+def create_database(args, work_dir):
+    database = work_dir / "corpus-db"
+    classes_dir = work_dir / "corpus-classes"
+    sources_file = work_dir / "corpus-sources.txt"
+    sources = sorted(str(p) for p in CORPUS_DIR.rglob("*.java"))
+    sources_file.write_text("\n".join(sources) + "\n", encoding="utf-8")
+
+    print(f"Creating corpus database from {len(sources)} source files", file=sys.stderr)
+    run([
+        args.codeql, "database", "create", str(database),
+        "--language=java",
+        "--overwrite",
+        f"--source-root={CORPUS_DIR}",
+        f"--command=javac -d {classes_dir} @{sources_file}",
+    ])
+    return database
+
+
+def find_queries(args):
+    if args.query:
+        return [Path(q).resolve() for q in args.query]
+
+    # Libraries are `.qll` files, so this only matches the queries
+    return sorted(QUERIES_DIR.rglob("*.ql"))
+
+
+def measure_query(args, database, query, work_dir):
+    name = str(query.relative_to(QUERIES_DIR)) if query.is_relative_to(QUERIES_DIR) else str(query)
+    log_file = work_dir / "logs" / (name.replace(os.sep, "__") + ".log")
+    log_file.parent.mkdir(parents=True, exist_ok=True)
+
+    if not args.keep_cache:
+        run([args.codeql, "database", "cleanup", "--cache-cleanup=clear", str(database)])
+
+    start = time.monotonic()
+    try:
+        run([
+            args.codeql, "query", "run",
+            f"--database={database}",
+            f"--search-path={args.search_path}",
+            f"--threads={args.threads}",
+            f"--ram={args.ram}",
+            "--tuple-counts",
+            f"--evaluator-log={log_file}",
+            f"--output={work_dir / 'results.bqrs'}",
+            str(query),
+        ])
+    except subprocess.CalledProcessError as e:
+        print(f"Query {name} failed:\n{e.stdout}", file=sys.stderr)
+        return {"query": name, "status": "failed"}
+    wall_time = time.monotonic() - start
+
+    result = {
+        "query": name,
+        "status": "ok",
+        "wallTimeSeconds": round(wall_time, 3),
+    }
+    result.update(summarize_evaluator_log(args.codeql, log_file))
+    return result
+
+
+def format_table(results):
+    header = ("Query", "Wall time (s)", "Peak relation size", "Slowest predicate")
+    rows = []
+    for result in sorted(results, key=lambda r: r.get("wallTimeSeconds", float("inf")), reverse=True):
+        if result["status"] != "ok":
+            rows.append((result["query"], "FAILED", "", ""))
+        else:
+            rows.append((
+                result["query"],
+                f"{result['wallTimeSeconds']:.2f}",
+                str(result["peakRelationSize"]),
+                f"{result['slowestPredicate']} ({result['slowestPredicateMillis']} ms)",
+            ))
+
+    lines = ["| " + " | ".join(header) + " |", "|" + "|".join(["---"] * len(header)) + "|"]
+    for row in rows:
+        lines.append("| " + " | ".join(row) + " |")
+    return "\n".join(lines) + "\n"
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Measures evaluation cost of the queries on the benchmark corpus")
+    parser.add_argument("--codeql", default="codeql", help="path of the CodeQL CLI executable")
+    parser.add_argument("--search-path", default=str(REPO_DIR / "codeql"), help="search path containing the CodeQL Java libraries")
+    parser.add_argument("--database", help="existing corpus database to use, instead of creating a new one")
+    parser.add_argument("--work-dir", help="directory for the database and the evaluator logs; a temporary directory by default")
+    parser.add_argument("--threads", default="1", help="number of evaluator threads; 1 gives the most stable timings")
+    parser.add_argument("--ram", default="4096", help="evaluator RAM in MB")
+    parser.add_argument("--keep-cache", action="store_true", help="don't clear the evaluation cache between queries")
+    parser.add_argument("--output", help="file to write the result table to, in addition to stdout")
+    parser.add_argument("--json", help="file to write the detailed results to, as JSON")
+    parser.add_argument("query", nargs="*", help="queries to measure; all queries of the pack by default")
+    args = parser.parse_args()
+
+    work_dir = Path(args.work_dir or tempfile.mkdtemp(prefix="codeql-benchmark-")).resolve()
+    work_dir.mkdir(parents=True, exist_ok=True)
+    database = Path(args.database).resolve() if args.database else create_database(args, work_dir)
+
+    queries = find_queries(args)
+    results = []
+    for i, query in enumerate(queries, start=1):
+        print(f"[{i}/{len(queries)}] {query.name}", file=sys.stderr)
+        results.append(measure_query(args, database, query, work_dir))
+
+    table = format_table(results)
+    print(table)
+    if args.output:
+        Path(args.output).write_text(table, encoding="utf-8")
+    if args.json:
+        Path(args.json).write_text(json.dumps(results, indent=2) + "\n", encoding="utf-8")
+    print(f"Evaluator logs are in {work_dir / 'logs'}", file=sys.stderr)
+
+
+if __name__ == "__main__":
+    main()
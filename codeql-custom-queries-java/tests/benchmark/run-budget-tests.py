@@ -0,0 +1,174 @@
+#!/usr/bin/env python3
+"""
+Checks the optional performance budgets of the query tests.
+
+A test can have a budget file `<name>.budget.json` next to its `<name>.qlref` file:
+
+    {
+      "maxTotalTupleCount": 5000000,
+      "maxPredicateSizes": {
+        "isFieldLock": 1000,
+        "ConcurrencyLib::getMonitorIdentity": 2000
+      }
+    }
+
+`maxTotalTupleCount` limits the sum of the sizes of all relations computed while
+evaluating the query on the test database. `maxPredicateSizes` limits the size of
+single predicates. The keys are predicate names as shown in the evaluator log,
+without the `#...` suffix; they can also be just the predicate name without the
+module qualifier. Both entries are optional.
+
+For every test with a budget file this script extracts the test database, runs the
+query with an evaluator log, and fails if the budget was exceeded. It complements
+`codeql test run`, which only checks the `.expected` results. Example, run from the
+repository root:
+
+    python3 codeql-custom-queries-java/tests/benchmark/run-budget-tests.py --codeql ./codeql-cli/codeql/codeql
+
+With `--record` the budgets of the existing budget files are instead set to the
+measured values multiplied by `--margin`. To add a budget for a test, run with
+`--record` and the path of the `.qlref` file of the test; this creates a budget file
+with `maxTotalTupleCount`. Budgets should only be committed with measured values,
+otherwise they cannot detect regressions.
+"""
+
+import argparse
+import json
+import subprocess
+import sys
+import tempfile
+from pathlib import Path
+
+from evaluator_log import predicate_name_matches, run, summarize_evaluator_log
+
+TESTS_DIR = Path(__file__).resolve().parent.parent
+PACK_DIR = TESTS_DIR.parent
+REPO_DIR = PACK_DIR.parent
+QUERIES_DIR = PACK_DIR / "queries"
+
+
+def find_budget_files(paths):
+    budget_files = []
+    for path in paths:
+        path = Path(path).resolve()
+        if path.suffix == ".qlref":
+            budget_files.append(path.with_name(path.stem + ".budget.json"))
+        elif path.is_file():
+            budget_files.append(path)
+        else:
+            budget_files.extend(sorted(path.rglob("*.budget.json")))
+    return budget_files
+
+
+def get_query(budget_file):
+    qlref = budget_file.with_name(budget_file.name[:-len(".budget.json")] + ".qlref")
+    if not qlref.is_file():
+        raise ValueError(f"Missing {qlref.name} for budget file {budget_file}")
+    # The query reference is relative to the root of the `queries` pack
+    return (QUERIES_DIR / qlref.read_text(encoding="utf-8").strip()).resolve()
+
+
+def measure_test(args, budget_file, work_dir):
+    test_dir = budget_file.parent
+    query = get_query(budget_file)
+    test_name = str(test_dir.relative_to(TESTS_DIR))
+
+    run([args.codeql, "test", "extract", f"--search-path={args.search_path}", str(test_dir)])
+    database = test_dir / (test_dir.name + ".testproj")
+
+    log_file = work_dir / (test_name.replace("/", "__") + ".log")
+    run([
+        args.codeql, "query", "run",
+        f"--database={database}",
+        f"--search-path={args.search_path}",
+        f"--threads={args.threads}",
+        f"--ram={args.ram}",
+        "--tuple-counts",
+        f"--evaluator-log={log_file}",
+        f"--output={work_dir / 'results.bqrs'}",
+        str(query),
+    ])
+    return summarize_evaluator_log(args.codeql, log_file)
+
+
+def get_predicate_size(summary, key):
+    sizes = [size for name, size in summary["predicateSizes"].items() if predicate_name_matches(name, key)]
+    # Predicate might not have been evaluated at all, e.g. due to being inlined
+    return max(sizes, default=0)
+
+
+def check_budget(budget, summary):
+    """
+    Returns a list of messages describing how the budget was exceeded.
+    """
+    violations = []
+    max_total = budget.get("maxTotalTupleCount")
+    if max_total is not None and summary["totalTupleCount"] > max_total:
+        violations.append(f"total tuple count {summary['totalTupleCount']} > {max_total}")
+
+    for key, max_size in budget.get("maxPredicateSizes", {}).items():
+        size = get_predicate_size(summary, key)
+        if size > max_size:
+            violations.append(f"size of {key} {size} > {max_size}")
+    return violations
+
+
+def record_budget(budget, summary, margin):
+    recorded = {}
+    if "maxTotalTupleCount" in budget:
+        recorded["maxTotalTupleCount"] = int(summary["totalTupleCount"] * margin)
+    if "maxPredicateSizes" in budget:
+        recorded["maxPredicateSizes"] = {
+            key: max(int(get_predicate_size(summary, key) * margin), 1)
+            for key in budget["maxPredicateSizes"]
+        }
+    return recorded
+
+
+def main():
+    parser = argparse.ArgumentParser(description="Checks the tuple count budgets of the query tests")
+    parser.add_argument("--codeql", default="codeql", help="path of the CodeQL CLI executable")
+    parser.add_argument("--search-path", default=str(REPO_DIR / "codeql"), help="search path containing the CodeQL Java libraries")
+    parser.add_argument("--threads", default="0", help="number of evaluator threads")
+    parser.add_argument("--ram", default="4096", help="evaluator RAM in MB")
+    parser.add_argument("--record", action="store_true", help="update the budget files with the measured values instead of checking them")
+    parser.add_argument("--margin", type=float, default=2.0, help="factor applied to the measured values by --record")
+    parser.add_argument("path", nargs="*", default=[str(TESTS_DIR)], help="budget files, .qlref files of tests, or directories to search for budget files; the complete tests pack by default")
+    args = parser.parse_args()
+
+    work_dir = Path(tempfile.mkdtemp(prefix="codeql-budget-"))
+    failed = False
+    for budget_file in find_budget_files(args.path):
+        test_name = str(budget_file.parent.relative_to(TESTS_DIR))
+        if budget_file.is_file():
+            budget = json.loads(budget_file.read_text(encoding="utf-8"))
+        elif args.record:
+            budget = {"maxTotalTupleCount": None}
+        else:
+            print(f"ERROR {test_name}: missing budget file {budget_file.name}")
+            failed = True
+            continue
+        try:
+            summary = measure_test(args, budget_file, work_dir)
+        except subprocess.CalledProcessError as e:
+            print(f"ERROR {test_name}: running the query failed\n{e.stdout}")
+            failed = True
+            continue
+
+        if args.record:
+            budget_file.write_text(json.dumps(record_budget(budget, summary, args.margin), indent=2) + "\n", encoding="utf-8")
+            print(f"RECORDED {test_name}")
+            continue
+
+        violations = check_budget(budget, summary)
+        if violations:
+            print(f"FAILED {test_name}: " + "; ".join(violations))
+            failed = True
+        else:
+            print(f"OK {test_name} (total tuple count {summary['totalTupleCount']})")
+
+    sys.exit(1 if failed else 0)
+
+
+if __name__ == "__main__":
+    main()
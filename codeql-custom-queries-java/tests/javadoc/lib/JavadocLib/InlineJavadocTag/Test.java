@@ -0,0 +1,18 @@
+class Test {
+    /** {@code first} and {@link #second text} */
+    int i1;
+
+    /** {@code {@code nested}} */
+    int i2;
+
+    /**
+     * {@code
+     * multi line
+     * }
+     */
+    int i3;
+
+    // Malformed or not inline tags
+    /** {@code } {code test} {@ code test} {@code unclosed */
+    int i4;
+}
@@ -0,0 +1,84 @@
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+class CriticalSection {
+    private final Lock lock = new ReentrantLock();
+    private final Lock otherLock = new ReentrantLock();
+
+    void work() {
+    }
+
+    void tryFinally() {
+        lock.lock();
+        try {
+            work(); // $ criticalSection=12
+        } finally {
+            lock.unlock();
+        }
+        work();
+    }
+
+    void unlockWithoutFinally() {
+        lock.lock();
+        work(); // $ criticalSection=22
+        lock.unlock();
+        work();
+    }
+
+    void unlockBeforeReturn(boolean b) {
+        lock.lock();
+        if (b) {
+            lock.unlock();
+            return;
+        }
+        work(); // $ criticalSection=29
+        lock.unlock();
+    }
+
+    void unlockNotPostDominating(boolean b) {
+        lock.lock();
+        // Not guaranteed to be followed by `unlock()`, so not considered part of the critical section
+        work();
+        if (b) {
+            lock.unlock();
+        }
+    }
+
+    void tryLock() {
+        if (lock.tryLock()) {
+            try {
+                work(); // $ criticalSection=48
+            } finally {
+                lock.unlock();
+            }
+        } else {
+            work();
+        }
+    }
+
+    void sequential() {
+        lock.lock();
+        try {
+            work(); // $ criticalSection=60
+        } finally {
+            lock.unlock();
+        }
+        // Between two critical sections of the same lock
+        work();
+        lock.lock();
+        try {
+            work(); // $ criticalSection=68
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void differentLock() {
+        lock.lock();
+        try {
+            work();
+        } finally {
+            otherLock.unlock();
+        }
+    }
+}
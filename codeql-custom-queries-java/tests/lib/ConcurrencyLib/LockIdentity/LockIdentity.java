@@ -0,0 +1,90 @@
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+class LockIdentity {
+    private final Object monitor = new Object();
+    private final Lock lock = new ReentrantLock();
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final Object[] monitors = new Object[2];
+    private final Lock[] locks = new Lock[2];
+
+    synchronized void synchronizedMethod() { // $ lock="monitor of LockIdentity.this" sameLockAs=17 sameLockAs=88
+    }
+
+    void synchronizedThis() {
+        synchronized (this) { // $ lock="monitor of LockIdentity.this" sameLockAs=13 sameLockAs=88
+        }
+    }
+
+    static synchronized void staticSynchronizedMethod() { // $ lock="monitor of LockIdentity.class" sameLockAs=25
+    }
+
+    void synchronizedClass() {
+        synchronized (LockIdentity.class) { // $ lock="monitor of LockIdentity.class" sameLockAs=21
+        }
+        synchronized (String.class) { // $ lock="monitor of String.class"
+        }
+    }
+
+    void synchronizedVariable() {
+        synchronized (monitor) { // $ lock="monitor of monitor" sameLockAs=34
+        }
+        synchronized (this.monitor) { // $ lock="monitor of monitor" sameLockAs=32
+        }
+        // Monitor of the `Lock` object is not the `Lock` itself
+        synchronized (lock) { // $ lock="monitor of lock"
+        }
+    }
+
+    void lockObject() throws InterruptedException {
+        lock.lock(); // $ lock="lock" sameLockAs=44
+        lock.unlock();
+        this.lock.lockInterruptibly(); // $ lock="lock" sameLockAs=42
+        lock.unlock();
+    }
+
+    void readWriteLock() {
+        readWriteLock.readLock().lock(); // $ lock="readWriteLock.readLock()" sameLockAs=51
+        readWriteLock.readLock().unlock();
+        readWriteLock.readLock().lock(); // $ lock="readWriteLock.readLock()" sameLockAs=49
+        readWriteLock.readLock().unlock();
+        // Write lock is different from the read lock
+        readWriteLock.writeLock().lock(); // $ lock="readWriteLock.writeLock()"
+        readWriteLock.writeLock().unlock();
+    }
+
+    void arrayElements(int i, int j) {
+        synchronized (monitors[0]) { // $ lock="monitor of monitors[0]" sameLockAs=61
+        }
+        synchronized (monitors[0]) { // $ lock="monitor of monitors[0]" sameLockAs=59
+        }
+        synchronized (monitors[1]) { // $ lock="monitor of monitors[1]"
+        }
+        locks[i].lock(); // $ lock="locks[i]" sameLockAs=67
+        locks[i].unlock();
+        locks[i].lock(); // $ lock="locks[i]" sameLockAs=65
+        locks[i].unlock();
+        locks[j].lock(); // $ lock="locks[j]"
+        locks[j].unlock();
+    }
+
+    void unresolved() {
+        // Only the same statement is known to use the same monitor
+        synchronized (getMonitor()) { // $ lock="monitor of getMonitor(...)"
+        }
+        synchronized (getMonitor()) { // $ lock="monitor of getMonitor(...)"
+        }
+    }
+
+    Object getMonitor() {
+        return monitor;
+    }
+}
+
+class LockIdentitySubclass extends LockIdentity {
+    // Subclass shares the `this` monitor with the superclass
+    synchronized void subclassSynchronizedMethod() { // $ lock="monitor of LockIdentity.this" sameLockAs=13 sameLockAs=17
+    }
+}
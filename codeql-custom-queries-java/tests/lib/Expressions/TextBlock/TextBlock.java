@@ -25,6 +25,10 @@ class TextBlock {
         """,
         """
 """,
+        """
+          indented  
+        text
+        """,
     };
 
     String notATextBlock = "\r\n";
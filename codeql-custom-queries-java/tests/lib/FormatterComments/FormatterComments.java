@@ -0,0 +1,38 @@
+class FormatterComments {
+    void m(int i) {
+    }
+
+    void offOffOnOn() {
+        m(1);
+        // @formatter:off
+        m(2); // $ inRegion region=@formatter:7-11
+        // @formatter:off
+        m(3); // $ inRegion region=@formatter:7-11
+        // @formatter:on
+        m(4);
+        // @formatter:on
+        m(5);
+    }
+
+    void spotless() {
+        // spotless:off
+        m(6); // $ inRegion region=spotless:18-20
+        // spotless:on
+        m(7);
+    }
+
+    void differentPrefixes() {
+        // spotless:off
+        m(8); // $ inRegion region=spotless:25-29
+        // @formatter:on
+        m(9); // $ inRegion region=spotless:25-29
+        // spotless:on
+        m(10);
+    }
+
+    void openUntilEndOfFile() {
+        m(11);
+        // @formatter:off
+        m(12); // $ inRegion region=@formatter:35-end
+    }
+}
@@ -0,0 +1,36 @@
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+class Logging {
+    void julLogger(Logger logger, Exception e) {
+        logger.info("message"); // $ level=INFO message=0
+        logger.fine("message"); // $ level=FINE debug message=0
+        logger.log(Level.WARNING, "message", e); // $ level=WARNING message=1 throwable=2
+        logger.log(Level.FINER, "message"); // $ level=FINER debug message=1
+        logger.logp(Level.SEVERE, "Class", "method", "message"); // $ level=SEVERE message=3
+        logger.entering("Class", "method"); // $ debug
+        logger.throwing("Class", "method", e); // $ debug throwable=2
+
+        Level level = Level.INFO;
+        // Level is not tracked through variables
+        logger.log(level, "message"); // $ message=1
+    }
+
+    void systemLogger(System.Logger logger) {
+        logger.log(System.Logger.Level.ERROR, "message"); // $ level=ERROR message=1
+        logger.log(System.Logger.Level.DEBUG, "message"); // $ level=DEBUG debug message=1
+    }
+
+    void slf4jLogger(org.slf4j.Logger logger, Exception e) {
+        logger.debug("message"); // $ level=DEBUG debug message=0 placeholders=0
+        logger.info("{} and {}", 1, 2); // $ level=INFO message=0 placeholders=2
+        logger.info("escaped \\{} and {}", 1); // $ level=INFO message=0 placeholders=1
+        logger.error("message", e); // $ level=ERROR message=0 throwable=1 placeholders=0
+        String format = getFormat();
+        logger.info(format, 1); // $ level=INFO message=0
+    }
+
+    String getFormat() {
+        return "{}";
+    }
+}
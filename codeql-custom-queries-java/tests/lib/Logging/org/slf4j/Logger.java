@@ -0,0 +1,7 @@
+package org.slf4j;
+
+public interface Logger {
+    void debug(String msg);
+    void info(String format, Object... arguments);
+    void error(String msg, Throwable t);
+}
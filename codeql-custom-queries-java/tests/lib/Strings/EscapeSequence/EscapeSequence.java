@@ -0,0 +1,27 @@
+class EscapeSequence {
+    String[] strings = {
+        "",
+        "test",
+        "\n", // $ escape=simple:1:2
+        "\b\t\f\r\s\"\'", // $ escape=simple:1:2 escape=simple:3:2 escape=simple:5:2 escape=simple:7:2 escape=simple:9:2 escape=simple:11:2 escape=simple:13:2
+        "a\nb\nc", // $ escape=simple:2:2 escape=simple:5:2
+        "\\", // $ escape=backslash:1:2
+        "\\\\", // $ escape=backslash:1:2 escape=backslash:3:2
+        "\\n", // $ escape=backslash:1:2
+        "\\\n", // $ escape=backslash:1:2 escape=simple:3:2
+        "\0", // $ escape=octal:1:2
+        "\12", // $ escape=octal:1:3
+        "\377", // $ escape=octal:1:4
+        "\3771", // $ escape=octal:1:4
+        "\477", // $ escape=octal:1:3
+        "\\0", // $ escape=backslash:1:2
+        "\\\0", // $ escape=backslash:1:2 escape=octal:3:2
+        "\u0041", // $ escape=unicode:1:6
+        "\uuu0041", // $ escape=unicode:1:8
+        "\u0041\u0042", // $ escape=unicode:1:6 escape=unicode:7:6
+        "\\u0041", // $ escape=backslash:1:2
+        "\\\u0041", // $ escape=backslash:1:2 escape=unicode:3:6
+    };
+
+    char c = '\n'; // Not a string literal
+}
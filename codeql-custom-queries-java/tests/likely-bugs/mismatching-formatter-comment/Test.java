@@ -0,0 +1,19 @@
+class Test {
+    void bad() {
+        // @formatter:off
+        // @formatter:off
+        // @formatter:on
+        // @formatter:on
+        // spotless:off
+        // spotless:off
+        // spotless:on
+    }
+
+    void good() {
+        // @formatter:off
+        // Comments with different prefixes are independent
+        // spotless:off
+        // @formatter:on
+        // spotless:on
+    }
+}
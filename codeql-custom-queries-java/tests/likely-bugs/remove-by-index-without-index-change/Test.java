@@ -0,0 +1,50 @@
+import java.util.List;
+
+class Test {
+    void bad(List<String> list, StringBuilder builder) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).isEmpty()) {
+                list.remove(i);
+            }
+        }
+
+        for (int i = 0; i < builder.length(); i++) {
+            if (builder.charAt(i) == ' ') {
+                builder.deleteCharAt(i);
+            }
+        }
+
+        // Index is updated in front of the removal within the same iteration
+        int i = 0;
+        while (i < list.size()) {
+            i++;
+            if (list.get(i).isEmpty()) {
+                list.remove(i);
+            }
+        }
+    }
+
+    void good(List<String> list) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i).isEmpty()) {
+                list.remove(i);
+                i--;
+            }
+        }
+
+        // Index is only updated if no element is removed
+        int i = 0;
+        while (i < list.size()) {
+            if (list.get(i).isEmpty()) {
+                list.remove(i);
+            } else {
+                i++;
+            }
+        }
+
+        // Decrementing index does not have to be adjusted
+        for (int j = list.size() - 1; j >= 0; j--) {
+            list.remove(j);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+class Test {
+    void bad() {
+        // @formatter:on
+        // @formatter:off
+        // @formatter:on
+        // spotless:off
+        int i = 0;
+    }
+}
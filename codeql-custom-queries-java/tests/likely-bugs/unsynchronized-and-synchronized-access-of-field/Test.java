@@ -0,0 +1,934 @@
+/**
+ * Class with a large number of fields, to make sure that the query scales with the
+ * number of field accesses.
+ */
+public class Test {
+    private int f0;
+    private int f1;
+    private int f2;
+    private int f3;
+    private int f4;
+    private int f5;
+    private int f6;
+    private int f7;
+    private int f8;
+    private int f9;
+    private int f10;
+    private int f11;
+    private int f12;
+    private int f13;
+    private int f14;
+    private int f15;
+    private int f16;
+    private int f17;
+    private int f18;
+    private int f19;
+    private int f20;
+    private int f21;
+    private int f22;
+    private int f23;
+    private int f24;
+    private int f25;
+    private int f26;
+    private int f27;
+    private int f28;
+    private int f29;
+    private int f30;
+    private int f31;
+    private int f32;
+    private int f33;
+    private int f34;
+    private int f35;
+    private int f36;
+    private int f37;
+    private int f38;
+    private int f39;
+    private int f40;
+    private int f41;
+    private int f42;
+    private int f43;
+    private int f44;
+    private int f45;
+    private int f46;
+    private int f47;
+    private int f48;
+    private int f49;
+    private int f50;
+    private int f51;
+    private int f52;
+    private int f53;
+    private int f54;
+    private int f55;
+    private int f56;
+    private int f57;
+    private int f58;
+    private int f59;
+    private int f60;
+    private int f61;
+    private int f62;
+    private int f63;
+    private int f64;
+    private int f65;
+    private int f66;
+    private int f67;
+    private int f68;
+    private int f69;
+    private int f70;
+    private int f71;
+    private int f72;
+    private int f73;
+    private int f74;
+    private int f75;
+    private int f76;
+    private int f77;
+    private int f78;
+    private int f79;
+    private int f80;
+    private int f81;
+    private int f82;
+    private int f83;
+    private int f84;
+    private int f85;
+    private int f86;
+    private int f87;
+    private int f88;
+    private int f89;
+    private int f90;
+    private int f91;
+    private int f92;
+    private int f93;
+    private int f94;
+    private int f95;
+    private int f96;
+    private int f97;
+    private int f98;
+    private int f99;
+    private int f100;
+    private int f101;
+    private int f102;
+    private int f103;
+    private int f104;
+    private int f105;
+    private int f106;
+    private int f107;
+    private int f108;
+    private int f109;
+    private int f110;
+    private int f111;
+    private int f112;
+    private int f113;
+    private int f114;
+    private int f115;
+    private int f116;
+    private int f117;
+    private int f118;
+    private int f119;
+    private int f120;
+    private int f121;
+    private int f122;
+    private int f123;
+    private int f124;
+    private int f125;
+    private int f126;
+    private int f127;
+    private int f128;
+    private int f129;
+    private int f130;
+    private int f131;
+    private int f132;
+    private int f133;
+    private int f134;
+    private int f135;
+    private int f136;
+    private int f137;
+    private int f138;
+    private int f139;
+    private int f140;
+    private int f141;
+    private int f142;
+    private int f143;
+    private int f144;
+    private int f145;
+    private int f146;
+    private int f147;
+    private int f148;
+    private int f149;
+    private int f150;
+    private int f151;
+    private int f152;
+    private int f153;
+    private int f154;
+    private int f155;
+    private int f156;
+    private int f157;
+    private int f158;
+    private int f159;
+    private int f160;
+    private int f161;
+    private int f162;
+    private int f163;
+    private int f164;
+    private int f165;
+    private int f166;
+    private int f167;
+    private int f168;
+    private int f169;
+    private int f170;
+    private int f171;
+    private int f172;
+    private int f173;
+    private int f174;
+    private int f175;
+    private int f176;
+    private int f177;
+    private int f178;
+    private int f179;
+    private int f180;
+    private int f181;
+    private int f182;
+    private int f183;
+    private int f184;
+    private int f185;
+    private int f186;
+    private int f187;
+    private int f188;
+    private int f189;
+    private int f190;
+    private int f191;
+    private int f192;
+    private int f193;
+    private int f194;
+    private int f195;
+    private int f196;
+    private int f197;
+    private int f198;
+    private int f199;
+    private int f200;
+    private int f201;
+    private int f202;
+    private int f203;
+    private int f204;
+    private int f205;
+    private int f206;
+    private int f207;
+    private int f208;
+    private int f209;
+    private int f210;
+    private int f211;
+    private int f212;
+    private int f213;
+    private int f214;
+    private int f215;
+    private int f216;
+    private int f217;
+    private int f218;
+    private int f219;
+    private int f220;
+    private int f221;
+    private int f222;
+    private int f223;
+    private int f224;
+    private int f225;
+    private int f226;
+    private int f227;
+    private int f228;
+    private int f229;
+    private int f230;
+    private int f231;
+    private int f232;
+    private int f233;
+    private int f234;
+    private int f235;
+    private int f236;
+    private int f237;
+    private int f238;
+    private int f239;
+    private int f240;
+    private int f241;
+    private int f242;
+    private int f243;
+    private int f244;
+    private int f245;
+    private int f246;
+    private int f247;
+    private int f248;
+    private int f249;
+    private int f250;
+    private int f251;
+    private int f252;
+    private int f253;
+    private int f254;
+    private int f255;
+    private int f256;
+    private int f257;
+    private int f258;
+    private int f259;
+    private int f260;
+    private int f261;
+    private int f262;
+    private int f263;
+    private int f264;
+    private int f265;
+    private int f266;
+    private int f267;
+    private int f268;
+    private int f269;
+    private int f270;
+    private int f271;
+    private int f272;
+    private int f273;
+    private int f274;
+    private int f275;
+    private int f276;
+    private int f277;
+    private int f278;
+    private int f279;
+    private int f280;
+    private int f281;
+    private int f282;
+    private int f283;
+    private int f284;
+    private int f285;
+    private int f286;
+    private int f287;
+    private int f288;
+    private int f289;
+    private int f290;
+    private int f291;
+    private int f292;
+    private int f293;
+    private int f294;
+    private int f295;
+    private int f296;
+    private int f297;
+    private int f298;
+    private int f299;
+
+    public synchronized void setAll(int v) {
+        f0 = v;
+        f1 = v;
+        f2 = v;
+        f3 = v;
+        f4 = v;
+        f5 = v;
+        f6 = v;
+        f7 = v;
+        f8 = v;
+        f9 = v;
+        f10 = v;
+        f11 = v;
+        f12 = v;
+        f13 = v;
+        f14 = v;
+        f15 = v;
+        f16 = v;
+        f17 = v;
+        f18 = v;
+        f19 = v;
+        f20 = v;
+        f21 = v;
+        f22 = v;
+        f23 = v;
+        f24 = v;
+        f25 = v;
+        f26 = v;
+        f27 = v;
+        f28 = v;
+        f29 = v;
+        f30 = v;
+        f31 = v;
+        f32 = v;
+        f33 = v;
+        f34 = v;
+        f35 = v;
+        f36 = v;
+        f37 = v;
+        f38 = v;
+        f39 = v;
+        f40 = v;
+        f41 = v;
+        f42 = v;
+        f43 = v;
+        f44 = v;
+        f45 = v;
+        f46 = v;
+        f47 = v;
+        f48 = v;
+        f49 = v;
+        f50 = v;
+        f51 = v;
+        f52 = v;
+        f53 = v;
+        f54 = v;
+        f55 = v;
+        f56 = v;
+        f57 = v;
+        f58 = v;
+        f59 = v;
+        f60 = v;
+        f61 = v;
+        f62 = v;
+        f63 = v;
+        f64 = v;
+        f65 = v;
+        f66 = v;
+        f67 = v;
+        f68 = v;
+        f69 = v;
+        f70 = v;
+        f71 = v;
+        f72 = v;
+        f73 = v;
+        f74 = v;
+        f75 = v;
+        f76 = v;
+        f77 = v;
+        f78 = v;
+        f79 = v;
+        f80 = v;
+        f81 = v;
+        f82 = v;
+        f83 = v;
+        f84 = v;
+        f85 = v;
+        f86 = v;
+        f87 = v;
+        f88 = v;
+        f89 = v;
+        f90 = v;
+        f91 = v;
+        f92 = v;
+        f93 = v;
+        f94 = v;
+        f95 = v;
+        f96 = v;
+        f97 = v;
+        f98 = v;
+        f99 = v;
+        f100 = v;
+        f101 = v;
+        f102 = v;
+        f103 = v;
+        f104 = v;
+        f105 = v;
+        f106 = v;
+        f107 = v;
+        f108 = v;
+        f109 = v;
+        f110 = v;
+        f111 = v;
+        f112 = v;
+        f113 = v;
+        f114 = v;
+        f115 = v;
+        f116 = v;
+        f117 = v;
+        f118 = v;
+        f119 = v;
+        f120 = v;
+        f121 = v;
+        f122 = v;
+        f123 = v;
+        f124 = v;
+        f125 = v;
+        f126 = v;
+        f127 = v;
+        f128 = v;
+        f129 = v;
+        f130 = v;
+        f131 = v;
+        f132 = v;
+        f133 = v;
+        f134 = v;
+        f135 = v;
+        f136 = v;
+        f137 = v;
+        f138 = v;
+        f139 = v;
+        f140 = v;
+        f141 = v;
+        f142 = v;
+        f143 = v;
+        f144 = v;
+        f145 = v;
+        f146 = v;
+        f147 = v;
+        f148 = v;
+        f149 = v;
+        f150 = v;
+        f151 = v;
+        f152 = v;
+        f153 = v;
+        f154 = v;
+        f155 = v;
+        f156 = v;
+        f157 = v;
+        f158 = v;
+        f159 = v;
+        f160 = v;
+        f161 = v;
+        f162 = v;
+        f163 = v;
+        f164 = v;
+        f165 = v;
+        f166 = v;
+        f167 = v;
+        f168 = v;
+        f169 = v;
+        f170 = v;
+        f171 = v;
+        f172 = v;
+        f173 = v;
+        f174 = v;
+        f175 = v;
+        f176 = v;
+        f177 = v;
+        f178 = v;
+        f179 = v;
+        f180 = v;
+        f181 = v;
+        f182 = v;
+        f183 = v;
+        f184 = v;
+        f185 = v;
+        f186 = v;
+        f187 = v;
+        f188 = v;
+        f189 = v;
+        f190 = v;
+        f191 = v;
+        f192 = v;
+        f193 = v;
+        f194 = v;
+        f195 = v;
+        f196 = v;
+        f197 = v;
+        f198 = v;
+        f199 = v;
+        f200 = v;
+        f201 = v;
+        f202 = v;
+        f203 = v;
+        f204 = v;
+        f205 = v;
+        f206 = v;
+        f207 = v;
+        f208 = v;
+        f209 = v;
+        f210 = v;
+        f211 = v;
+        f212 = v;
+        f213 = v;
+        f214 = v;
+        f215 = v;
+        f216 = v;
+        f217 = v;
+        f218 = v;
+        f219 = v;
+        f220 = v;
+        f221 = v;
+        f222 = v;
+        f223 = v;
+        f224 = v;
+        f225 = v;
+        f226 = v;
+        f227 = v;
+        f228 = v;
+        f229 = v;
+        f230 = v;
+        f231 = v;
+        f232 = v;
+        f233 = v;
+        f234 = v;
+        f235 = v;
+        f236 = v;
+        f237 = v;
+        f238 = v;
+        f239 = v;
+        f240 = v;
+        f241 = v;
+        f242 = v;
+        f243 = v;
+        f244 = v;
+        f245 = v;
+        f246 = v;
+        f247 = v;
+        f248 = v;
+        f249 = v;
+        f250 = v;
+        f251 = v;
+        f252 = v;
+        f253 = v;
+        f254 = v;
+        f255 = v;
+        f256 = v;
+        f257 = v;
+        f258 = v;
+        f259 = v;
+        f260 = v;
+        f261 = v;
+        f262 = v;
+        f263 = v;
+        f264 = v;
+        f265 = v;
+        f266 = v;
+        f267 = v;
+        f268 = v;
+        f269 = v;
+        f270 = v;
+        f271 = v;
+        f272 = v;
+        f273 = v;
+        f274 = v;
+        f275 = v;
+        f276 = v;
+        f277 = v;
+        f278 = v;
+        f279 = v;
+        f280 = v;
+        f281 = v;
+        f282 = v;
+        f283 = v;
+        f284 = v;
+        f285 = v;
+        f286 = v;
+        f287 = v;
+        f288 = v;
+        f289 = v;
+        f290 = v;
+        f291 = v;
+        f292 = v;
+        f293 = v;
+        f294 = v;
+        f295 = v;
+        f296 = v;
+        f297 = v;
+        f298 = v;
+        f299 = v;
+    }
+
+    public synchronized int sumAll() {
+        int sum = 0;
+        sum += f0;
+        sum += f1;
+        sum += f2;
+        sum += f3;
+        sum += f4;
+        sum += f5;
+        sum += f6;
+        sum += f7;
+        sum += f8;
+        sum += f9;
+        sum += f10;
+        sum += f11;
+        sum += f12;
+        sum += f13;
+        sum += f14;
+        sum += f15;
+        sum += f16;
+        sum += f17;
+        sum += f18;
+        sum += f19;
+        sum += f20;
+        sum += f21;
+        sum += f22;
+        sum += f23;
+        sum += f24;
+        sum += f25;
+        sum += f26;
+        sum += f27;
+        sum += f28;
+        sum += f29;
+        sum += f30;
+        sum += f31;
+        sum += f32;
+        sum += f33;
+        sum += f34;
+        sum += f35;
+        sum += f36;
+        sum += f37;
+        sum += f38;
+        sum += f39;
+        sum += f40;
+        sum += f41;
+        sum += f42;
+        sum += f43;
+        sum += f44;
+        sum += f45;
+        sum += f46;
+        sum += f47;
+        sum += f48;
+        sum += f49;
+        sum += f50;
+        sum += f51;
+        sum += f52;
+        sum += f53;
+        sum += f54;
+        sum += f55;
+        sum += f56;
+        sum += f57;
+        sum += f58;
+        sum += f59;
+        sum += f60;
+        sum += f61;
+        sum += f62;
+        sum += f63;
+        sum += f64;
+        sum += f65;
+        sum += f66;
+        sum += f67;
+        sum += f68;
+        sum += f69;
+        sum += f70;
+        sum += f71;
+        sum += f72;
+        sum += f73;
+        sum += f74;
+        sum += f75;
+        sum += f76;
+        sum += f77;
+        sum += f78;
+        sum += f79;
+        sum += f80;
+        sum += f81;
+        sum += f82;
+        sum += f83;
+        sum += f84;
+        sum += f85;
+        sum += f86;
+        sum += f87;
+        sum += f88;
+        sum += f89;
+        sum += f90;
+        sum += f91;
+        sum += f92;
+        sum += f93;
+        sum += f94;
+        sum += f95;
+        sum += f96;
+        sum += f97;
+        sum += f98;
+        sum += f99;
+        sum += f100;
+        sum += f101;
+        sum += f102;
+        sum += f103;
+        sum += f104;
+        sum += f105;
+        sum += f106;
+        sum += f107;
+        sum += f108;
+        sum += f109;
+        sum += f110;
+        sum += f111;
+        sum += f112;
+        sum += f113;
+        sum += f114;
+        sum += f115;
+        sum += f116;
+        sum += f117;
+        sum += f118;
+        sum += f119;
+        sum += f120;
+        sum += f121;
+        sum += f122;
+        sum += f123;
+        sum += f124;
+        sum += f125;
+        sum += f126;
+        sum += f127;
+        sum += f128;
+        sum += f129;
+        sum += f130;
+        sum += f131;
+        sum += f132;
+        sum += f133;
+        sum += f134;
+        sum += f135;
+        sum += f136;
+        sum += f137;
+        sum += f138;
+        sum += f139;
+        sum += f140;
+        sum += f141;
+        sum += f142;
+        sum += f143;
+        sum += f144;
+        sum += f145;
+        sum += f146;
+        sum += f147;
+        sum += f148;
+        sum += f149;
+        sum += f150;
+        sum += f151;
+        sum += f152;
+        sum += f153;
+        sum += f154;
+        sum += f155;
+        sum += f156;
+        sum += f157;
+        sum += f158;
+        sum += f159;
+        sum += f160;
+        sum += f161;
+        sum += f162;
+        sum += f163;
+        sum += f164;
+        sum += f165;
+        sum += f166;
+        sum += f167;
+        sum += f168;
+        sum += f169;
+        sum += f170;
+        sum += f171;
+        sum += f172;
+        sum += f173;
+        sum += f174;
+        sum += f175;
+        sum += f176;
+        sum += f177;
+        sum += f178;
+        sum += f179;
+        sum += f180;
+        sum += f181;
+        sum += f182;
+        sum += f183;
+        sum += f184;
+        sum += f185;
+        sum += f186;
+        sum += f187;
+        sum += f188;
+        sum += f189;
+        sum += f190;
+        sum += f191;
+        sum += f192;
+        sum += f193;
+        sum += f194;
+        sum += f195;
+        sum += f196;
+        sum += f197;
+        sum += f198;
+        sum += f199;
+        sum += f200;
+        sum += f201;
+        sum += f202;
+        sum += f203;
+        sum += f204;
+        sum += f205;
+        sum += f206;
+        sum += f207;
+        sum += f208;
+        sum += f209;
+        sum += f210;
+        sum += f211;
+        sum += f212;
+        sum += f213;
+        sum += f214;
+        sum += f215;
+        sum += f216;
+        sum += f217;
+        sum += f218;
+        sum += f219;
+        sum += f220;
+        sum += f221;
+        sum += f222;
+        sum += f223;
+        sum += f224;
+        sum += f225;
+        sum += f226;
+        sum += f227;
+        sum += f228;
+        sum += f229;
+        sum += f230;
+        sum += f231;
+        sum += f232;
+        sum += f233;
+        sum += f234;
+        sum += f235;
+        sum += f236;
+        sum += f237;
+        sum += f238;
+        sum += f239;
+        sum += f240;
+        sum += f241;
+        sum += f242;
+        sum += f243;
+        sum += f244;
+        sum += f245;
+        sum += f246;
+        sum += f247;
+        sum += f248;
+        sum += f249;
+        sum += f250;
+        sum += f251;
+        sum += f252;
+        sum += f253;
+        sum += f254;
+        sum += f255;
+        sum += f256;
+        sum += f257;
+        sum += f258;
+        sum += f259;
+        sum += f260;
+        sum += f261;
+        sum += f262;
+        sum += f263;
+        sum += f264;
+        sum += f265;
+        sum += f266;
+        sum += f267;
+        sum += f268;
+        sum += f269;
+        sum += f270;
+        sum += f271;
+        sum += f272;
+        sum += f273;
+        sum += f274;
+        sum += f275;
+        sum += f276;
+        sum += f277;
+        sum += f278;
+        sum += f279;
+        sum += f280;
+        sum += f281;
+        sum += f282;
+        sum += f283;
+        sum += f284;
+        sum += f285;
+        sum += f286;
+        sum += f287;
+        sum += f288;
+        sum += f289;
+        sum += f290;
+        sum += f291;
+        sum += f292;
+        sum += f293;
+        sum += f294;
+        sum += f295;
+        sum += f296;
+        sum += f297;
+        sum += f298;
+        sum += f299;
+        sum += getF2Guarded();
+        return sum;
+    }
+
+    public int getF0() {
+        return f0;
+    }
+
+    public void setF1(int v) {
+        f1 = v;
+    }
+
+    // Only called while holding the lock
+    private int getF2Guarded() {
+        return f2;
+    }
+
+    public int getF3() {
+        synchronized (this) {
+            return f3;
+        }
+    }
+}
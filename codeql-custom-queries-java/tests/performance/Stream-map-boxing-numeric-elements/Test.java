@@ -0,0 +1,55 @@
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+class Test {
+    interface Item {
+        int getId();
+        long getSize();
+        double getWeight();
+        Integer getBoxedId();
+    }
+
+    void bad(List<Item> items) {
+        int i;
+        long l;
+        double d;
+        i = items.stream().map(item -> item.getId()).reduce(0, Integer::sum);
+        i = items.stream().map(Item::getId).reduce(Integer::sum).get();
+        l = items.stream().map(Item::getSize).filter(s -> s > 0).sorted().reduce(0L, Long::sum);
+        d = items.stream().map(Item::getWeight).collect(Collectors.summingDouble(w -> w));
+        i = items.stream().map(Item::getId).max(Comparator.naturalOrder()).get();
+        i = items.stream().map(Item::getId).min(Integer::compare).get();
+        i = items.stream().map(Item::getId).mapToInt(Integer::intValue).sum();
+        i = items.stream().map(item -> {
+            int id = item.getId();
+            return id * 2;
+        }).reduce(0, Integer::sum);
+
+        Stream<Integer> ids = items.stream().map(Item::getId);
+        i = ids.distinct().reduce(0, Integer::sum);
+    }
+
+    void good(List<Item> items) {
+        int i;
+        List<Integer> list;
+        i = items.stream().mapToInt(Item::getId).sum();
+        // Elements are needed as boxed values
+        list = items.stream().map(Item::getId).collect(Collectors.toList());
+        // Function already returns boxed values
+        i = items.stream().map(Item::getBoxedId).reduce(0, Integer::sum);
+        // Primitive streams cannot be sorted by custom comparator
+        i = items.stream().map(Item::getId).sorted(Comparator.reverseOrder()).reduce(0, Integer::sum);
+        i = items.stream().map(Item::getId).max(Comparator.reverseOrder()).get();
+        // Stream is additionally used in other ways
+        Stream<Integer> ids = items.stream().map(Item::getId);
+        i = ids.reduce(0, Integer::sum);
+        consume(ids);
+        // Primitive streams only exist for int, long and double; `mapToDouble` would change the result
+        float f = items.stream().map(item -> (float) item.getWeight()).reduce(0f, Float::sum);
+    }
+
+    void consume(Stream<Integer> stream) {
+    }
+}
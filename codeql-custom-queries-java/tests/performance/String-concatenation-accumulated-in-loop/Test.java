@@ -0,0 +1,71 @@
+import java.util.List;
+
+class Test {
+    private String log = "";
+
+    String bad(List<String> items, int count) {
+        String result = "";
+        for (String item : items) {
+            result += item;
+        }
+
+        for (int i = 0; i < count; i++) {
+            result = result + i + ",";
+        }
+
+        int i = 0;
+        while (i < count) {
+            String previous = result;
+            result = previous + i;
+            i++;
+        }
+
+        for (String item : items) {
+            for (int j = 0; j < 3; j++) {
+                // Inner loop is small, but outer loop is not
+                result += item;
+            }
+        }
+
+        items.forEach(item -> log += item);
+        items.stream().forEach(item -> {
+            this.log = this.log + item;
+        });
+        return result;
+    }
+
+    String good(List<String> items) {
+        String result = "";
+        // Small constant number of iterations
+        for (int i = 0; i < 5; i++) {
+            result += i;
+        }
+        for (String s : new String[] {"a", "b"}) {
+            result += s;
+        }
+
+        for (String item : items) {
+            // Variable is declared within loop
+            String line = "";
+            line += item;
+            // Not concatenated with the previous value
+            result = item + ",";
+            System.out.println(line);
+        }
+
+        // Previous value is read once before the loop
+        String base = result;
+        for (String item : items) {
+            result = base + item;
+        }
+        String logBase = log;
+        items.forEach(item -> log = logBase + item);
+
+        // Not a String
+        int sum = 0;
+        for (String item : items) {
+            sum += item.length();
+        }
+        return result + sum;
+    }
+}
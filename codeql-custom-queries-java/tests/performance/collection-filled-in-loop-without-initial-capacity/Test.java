@@ -0,0 +1,87 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class Test {
+    void bad(List<String> names, char[] chars, Map<String, Integer> counts) {
+        List<Integer> lengths = new ArrayList<>();
+        for (String name : names) {
+            lengths.add(name.length());
+        }
+
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            indices.put(names.get(i), i);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < chars.length; i++) {
+            builder.append(Character.toUpperCase(chars[i]));
+        }
+
+        Set<String> keys = new HashSet<>();
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            keys.add(entry.getKey());
+        }
+
+        List<String> upper = new ArrayList<>();
+        int count = names.size();
+        for (int i = 0; i < count; i++) {
+            upper.add(names.get(i).toUpperCase());
+        }
+    }
+
+    void good(List<String> names, Iterable<String> iterable) {
+        List<Integer> lengths = new ArrayList<>(names.size());
+        for (String name : names) {
+            lengths.add(name.length());
+        }
+
+        // Element is only added conditionally
+        List<String> nonEmpty = new ArrayList<>();
+        for (String name : names) {
+            if (!name.isEmpty()) {
+                nonEmpty.add(name);
+            }
+        }
+
+        // Size of the iterable is not known
+        List<String> copy = new ArrayList<>();
+        for (String s : iterable) {
+            copy.add(s);
+        }
+
+        // Multiple elements are added per iteration
+        List<String> doubled = new ArrayList<>();
+        for (String name : names) {
+            doubled.add(name);
+            doubled.add(name);
+        }
+
+        // Collection is created within the loop
+        for (String name : names) {
+            List<String> single = new ArrayList<>();
+            single.add(name);
+            System.out.println(single);
+        }
+
+        // Elements are added in front of the loop as well
+        List<String> withHeader = new ArrayList<>();
+        withHeader.add("header");
+        for (String name : names) {
+            withHeader.add(name);
+        }
+
+        // Filled by multiple loops
+        List<String> combined = new ArrayList<>();
+        for (String name : names) {
+            combined.add(name);
+        }
+        for (String s : iterable) {
+            combined.add(s);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+class Test {
+    private static final Pattern SEPARATOR = Pattern.compile("\\s*,\\s*");
+
+    void bad(List<String> lines) {
+        for (String line : lines) {
+            String[] columns = line.split("\\s*,\\s*");
+            if (Pattern.compile("[a-z]+").matcher(line).matches()) {
+                System.out.println(columns.length);
+            }
+        }
+
+        int i = 0;
+        while (i < lines.size()) {
+            System.out.println(lines.get(i).replaceAll("\\d+", "#"));
+            i++;
+        }
+
+        List<Boolean> result = lines.stream()
+            .map(line -> line.matches("[0-9]+"))
+            .collect(Collectors.toList());
+        System.out.println(result);
+
+        for (String line : lines) {
+            normalize(line);
+        }
+        lines.forEach(Test::trim);
+    }
+
+    String normalize(String s) {
+        return s.replaceFirst("^\\s+", "");
+    }
+
+    static String trim(String s) {
+        return s.replaceAll("\\s+$", "");
+    }
+
+    void good(List<String> lines, String regex) {
+        for (String line : lines) {
+            // Uses the stored pattern
+            String[] columns = SEPARATOR.split(line);
+            // Split does not compile a pattern
+            columns = line.split(",");
+            columns = line.split("\\|");
+            // Not a constant pattern
+            columns = line.split(regex);
+            // Single character
+            System.out.println(line.replaceAll(".", "x"));
+            System.out.println(columns.length);
+        }
+
+        // Not repeated
+        System.out.println(Pattern.compile("[a-z]+").matcher(regex).matches());
+        // Method reference which is not passed to a stream or collection method
+        Runnable r = this::init;
+        r.run();
+    }
+
+    void init() {
+        System.out.println(Pattern.compile("[0-9]+").matcher("1").matches());
+    }
+}
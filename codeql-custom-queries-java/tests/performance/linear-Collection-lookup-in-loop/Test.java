@@ -0,0 +1,92 @@
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+class Test {
+    private List<String> knownNames = new ArrayList<>();
+
+    void bad(List<String> names, String[] nameArray, List<String> otherNames, ArrayDeque<String> deque) {
+        List<String> result = new ArrayList<>();
+        for (String name : names) {
+            if (!otherNames.contains(name)) {
+                result.add(name);
+            }
+        }
+
+        for (int i = 0; i < nameArray.length; i++) {
+            int index = otherNames.indexOf(nameArray[i]);
+            System.out.println(index);
+        }
+
+        Iterator<String> iterator = names.iterator();
+        while (iterator.hasNext()) {
+            knownNames.remove(iterator.next());
+        }
+
+        for (int i = 0; i < names.size(); i++) {
+            if (this.knownNames.contains(names.get(i)) || deque.contains(names.get(i))) {
+                System.out.println(i);
+            }
+        }
+    }
+
+    void good(List<String> names, Set<String> nameSet, List<List<String>> nameLists) {
+        for (String name : names) {
+            // Lookup in a Set is fast
+            if (nameSet.contains(name)) {
+                System.out.println(name);
+            }
+        }
+
+        for (List<String> otherNames : nameLists) {
+            // Collection is different for every iteration
+            if (otherNames.contains("a")) {
+                System.out.println(otherNames);
+            }
+        }
+
+        List<String> current = new ArrayList<>();
+        for (String name : names) {
+            if (current.contains(name)) {
+                System.out.println(name);
+            }
+            current = new ArrayList<>();
+        }
+
+        // List.remove(int) does not perform a lookup
+        for (int i = 0; i < names.size(); i++) {
+            current.remove(0);
+        }
+
+        // Loop which does not iterate over elements
+        while (true) {
+            if (names.contains("a")) {
+                break;
+            }
+        }
+
+        // Loops over the collection on which the lookup is performed
+        List<String> pending = new ArrayList<>(names);
+        for (String name : names) {
+            if (names.indexOf(name) != names.lastIndexOf(name)) {
+                System.out.println(name);
+            }
+        }
+        while (!pending.isEmpty()) {
+            String name = pending.get(0);
+            pending.remove(name);
+        }
+        for (int i = 0; i < pending.size(); i++) {
+            pending.remove(names.get(i));
+        }
+        Iterator<String> pendingIterator = pending.iterator();
+        while (pendingIterator.hasNext()) {
+            if (pending.contains(pendingIterator.next())) {
+                System.out.println(pending);
+            }
+        }
+    }
+}
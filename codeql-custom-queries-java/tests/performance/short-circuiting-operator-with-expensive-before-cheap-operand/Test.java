@@ -0,0 +1,59 @@
+import java.io.IOException;
+import java.io.InputStream;
+
+class Test {
+    private boolean flag;
+
+    // Estimated cost 5
+    private boolean atThreshold(int a) {
+        int b = a + 1;
+        int c = b * 2;
+        int d = c - 3;
+        int e = d / 4;
+        return e > 0;
+    }
+
+    // Estimated cost 6
+    private boolean aboveThreshold(int a) {
+        int b = a + 1;
+        int c = b * 2;
+        int d = c - 3;
+        int e = d / 4;
+        int f = e % 5;
+        return f > 0;
+    }
+
+    // Estimated cost 1 + cost of `aboveThreshold`
+    private boolean callsAboveThreshold(int a) {
+        return aboveThreshold(a);
+    }
+
+    // Estimated cost includes the loop factor
+    private boolean hasNegative(int[] values) {
+        for (int v : values) {
+            if (v < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean manyParams(int a, int b, int c, int d) {
+        return a == b;
+    }
+
+    void test(int a, int[] values, InputStream in) throws IOException {
+        if (aboveThreshold(a) && flag) { }
+        if (callsAboveThreshold(a) || flag) { }
+        if (hasNegative(values) && flag) { }
+        if (in.read() == -1 && flag) { }
+        if (manyParams(a, a, a, a) && flag) { }
+    }
+
+    void testCorrect(int a, int[] values) {
+        if (atThreshold(a) && flag) { }
+        if (flag && aboveThreshold(a)) { }
+        // Right operand is not cheap
+        if (aboveThreshold(a) && atThreshold(a)) { }
+    }
+}
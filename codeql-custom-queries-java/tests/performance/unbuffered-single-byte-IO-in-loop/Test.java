@@ -0,0 +1,55 @@
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.Socket;
+
+class Test {
+    void bad(File file, Socket socket) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            int b;
+            while ((b = in.read()) != -1) {
+                System.out.println(b);
+            }
+        }
+
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            for (int i = 0; i < 1000; i++) {
+                out.write(i);
+            }
+        }
+
+        OutputStream socketOut = socket.getOutputStream();
+        for (byte b : new byte[] {1, 2, 3}) {
+            socketOut.write(b);
+        }
+
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+            do {
+                System.out.println(randomAccessFile.read());
+            } while (randomAccessFile.getFilePointer() < 100);
+        }
+    }
+
+    void good(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            int b;
+            while ((b = in.read()) != -1) {
+                System.out.println(b);
+            }
+        }
+
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                System.out.println(buffer[0]);
+            }
+            // Not in a loop
+            System.out.println(in.read());
+        }
+    }
+}
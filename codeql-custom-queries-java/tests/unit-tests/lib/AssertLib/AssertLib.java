@@ -0,0 +1,36 @@
+import org.junit.Assert;
+import org.junit.jupiter.api.Assertions;
+
+class AssertLib {
+    void junit4(Object actual, double actualDouble) {
+        Assert.assertTrue(actual != null); // $ framework="JUnit 4" asserted=0
+        Assert.assertTrue("message", actual != null); // $ framework="JUnit 4" message=0 asserted=1
+        Assert.assertEquals("expected", actual); // $ framework="JUnit 4" fixed=0 asserted=1
+        // `String` parameter at the start is the message, not the 'expected' value
+        Assert.assertEquals("message", "expected", actual); // $ framework="JUnit 4" message=0 fixed=1 asserted=2
+        Assert.assertEquals(1.0, actualDouble, 0.1); // $ framework="JUnit 4" fixed=0 asserted=1 delta=2
+        Assert.assertEquals("message", 1.0, actualDouble, 0.1); // $ framework="JUnit 4" message=0 fixed=1 asserted=2 delta=3
+        Assert.assertThrows(IllegalStateException.class, () -> {}); // $ framework="JUnit 4" expectedClass=0 executable=1
+        Assert.assertThrows("message", IllegalStateException.class, () -> {}); // $ framework="JUnit 4" message=0 expectedClass=1 executable=2
+    }
+
+    void junit5(Object actual, double actualDouble) {
+        Assertions.assertTrue(actual != null); // $ framework="JUnit 5" asserted=0
+        Assertions.assertTrue(actual != null, () -> "message"); // $ framework="JUnit 5" asserted=0 message=1
+        Assertions.assertEquals("expected", actual); // $ framework="JUnit 5" fixed=0 asserted=1
+        Assertions.assertEquals("expected", actual, "message"); // $ framework="JUnit 5" fixed=0 asserted=1 message=2
+        Assertions.assertEquals("expected", actual, () -> "message"); // $ framework="JUnit 5" fixed=0 asserted=1 message=2
+        Assertions.assertEquals(1.0, actualDouble, 0.1, "message"); // $ framework="JUnit 5" fixed=0 asserted=1 delta=2 message=3
+        Assertions.assertThrows(IllegalStateException.class, () -> {}); // $ framework="JUnit 5" expectedClass=0 executable=1
+        Assertions.assertThrows(IllegalStateException.class, () -> {}, "message"); // $ framework="JUnit 5" expectedClass=0 executable=1 message=2
+        Assertions.assertThrowsExactly(IllegalStateException.class, () -> {}, "message"); // $ framework="JUnit 5" expectedClass=0 executable=1 message=2
+    }
+
+    void notAssertions(Object actual) {
+        // Only calls to the assertion methods of the test frameworks are considered
+        assertEquals("expected", actual);
+        java.util.Objects.requireNonNull(actual, "message");
+    }
+
+    static void assertEquals(Object expected, Object actual) {}
+}
